@@ -0,0 +1,37 @@
+package configs.event;
+
+// [ EventConfig 개요 ]
+// - 도메인 이벤트 버스(EventBus)의 비동기 전달 방식 설정값들을 보관하기 위한 Config 파일임다.
+// - 호출할 때엔 "EventConfig.필드명.getValue()"으로 설정값 String을 얻을 수 있습니다.
+
+// [ 메모 ]
+// - DBConfig와 같이 각 필드는 기본값을 갖고 있으며, 실행 시 "-D속성명=값" 으로 덮어쓸 수 있슴다.
+// - queueCapacity : 비동기 구독자에게 아직 전달되지 않은 이벤트를 담아둘 최대 개수 (2의 거듭제곱으로 올려서 씀)
+// - maxBatch : 비동기 구독자에게 한 번에 넘기는 최대 이벤트 수
+// - idleMs : 이벤트가 없을 때 전달 스레드가 쉬는 최대 시간 (발행 시엔 바로 깨움)
+
+public enum EventConfig {
+    QUEUE_CAPACITY("pmt.event.queueCapacity", "4096"),
+    MAX_BATCH("pmt.event.maxBatch", "256"),
+    IDLE_MS("pmt.event.idleMs", "1000");
+
+    private String property;
+    private String defaultValue;
+
+    private EventConfig(String property, String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    public String getValue() {
+        return System.getProperty(property, defaultValue);
+    }
+
+    public int getInt() {
+        return Integer.parseInt(getValue());
+    }
+
+    public long getLong() {
+        return Long.parseLong(getValue());
+    }
+}
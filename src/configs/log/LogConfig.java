@@ -0,0 +1,41 @@
+package configs.log;
+
+// [ LogConfig 개요 ]
+// - 활동 로그(LogRecorder)의 보관 위치와 기록 방식 설정값들을 보관하기 위한 Config 파일임다.
+// - 호출할 때엔 "LogConfig.필드명.getValue()"으로 설정값 String을 얻을 수 있습니다.
+
+// [ 메모 ]
+// - DBConfig와 같이 각 필드는 기본값을 갖고 있으며, 실행 시 "-D속성명=값" 으로 덮어쓸 수 있슴다.
+// - queueCapacity : 아직 파일에 쓰이지 않은 로그를 담아둘 최대 개수 (2의 거듭제곱으로 올려서 씀)
+// - flushIntervalMs : 로그가 없을 때 기록 스레드가 쉬는 시간 (기록 후 파일에 반영되기까지의 최대 지연)
+// - segmentBytes : activity.log가 이 크기를 넘으면 압축된 segment로 봉인하고 새 파일에 이어 씀
+// - retentionDays / maxSegments : 이보다 오래됐거나 많은 segment는 오래된 것부터 지움 (디스크 사용량 상한)
+
+public enum LogConfig {
+    DIR("pmt.log.dir", "data/log"),
+    QUEUE_CAPACITY("pmt.log.queueCapacity", "4096"),
+    FLUSH_INTERVAL_MS("pmt.log.flushIntervalMs", "200"),
+    SEGMENT_BYTES("pmt.log.segmentBytes", "1048576"),
+    RETENTION_DAYS("pmt.log.retentionDays", "90"),
+    MAX_SEGMENTS("pmt.log.maxSegments", "256");
+
+    private String property;
+    private String defaultValue;
+
+    private LogConfig(String property, String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    public String getValue() {
+        return System.getProperty(property, defaultValue);
+    }
+
+    public int getInt() {
+        return Integer.parseInt(getValue());
+    }
+
+    public long getLong() {
+        return Long.parseLong(getValue());
+    }
+}
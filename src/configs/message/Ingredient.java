@@ -29,8 +29,10 @@ public enum Ingredient {
     REMOVE_TASK_SUCCESS("[ %s ] 업무 제거에 성공했습니다."),
     DISMISS_MEMBER_FAILED("해임할 팀원을 찾지 못했습니다. ID를 확인해주세요."),
     DISMISS_MEMBER_SUCCESS("[ %s ] 팀원 해임에 성공했습니다."),
+    ADD_TASK_FAILED("업무를 저장하지 못했습니다. 잠시 후 다시 시도해주세요."),
     ADD_TASK_SUCCESS("[ %s ] 업무 생성에 성공했습니다. 업무ID는 [ %s ] 입니다."),
     UPDATE_TASK_INFO_SUCCESS("[ %s ] 업무 수정에 성공했습니다."),
+    INVITE_MEMBER_FAILED("팀원을 저장하지 못했습니다. 잠시 후 다시 시도해주세요."),
     INVITE_MEMBER_SUCCESS("[ %s ] 팀원 초대에 성공했습니다.팀원ID는 [ %s ]입니다."),
     UPDATE_MEMBER_INFO_SUCCESS("[ %s ] 님의 정보 수정에 성공했습니다."),
     // 로그 템플릿
@@ -29,7 +29,7 @@ public enum UIMessage {
             [입력양식]
             - 업무명 : 15 글자 이하의 한국어+영어+숫자
             - 유형 : 1, 2, 3, 4 중 하나 택 ( 1=기획 / 2=개발 / 3=디버그 / 4= 기타 )
-            - 담당 팀원 : 영소문자 "m"과 100 미만의 숫자의 조합 ( 예: m02, m33, ... )
+            - 담당 팀원 : 영소문자 "m"과 숫자의 조합 ( 예: m02, m33, m1024, ... )
             - 마감일 : yyyymmdd 형태의 숫자, (첫 y는 2이상, mm은 01~12, dd는 01~31)
             """),
     UPDATE_TASK_INFO("""
@@ -41,10 +41,10 @@ public enum UIMessage {
             업무ID / 업무명? / 상태? / 담당 팀원? / 마감일?
             
             [입력양식]
-            - 업무ID : 영소문자 "t"과 100 미만의 숫자의 조합 ( 예: t02, t33, ... )
+            - 업무ID : 영소문자 "t"과 숫자의 조합 ( 예: t02, t33, t1024, ... )
             - 업무명 : 15 글자 이하의 한국어+영어+숫자
             - 상태 : 1, 2, 3 중 하나 택 ( 1=대기 / 2=진행 / 3=완료 )
-            - 담당 팀원 : 영소문자 "m"과 100 미만의 숫자의 조합 ( 예: m02, m33, ... )
+            - 담당 팀원 : 영소문자 "m"과 숫자의 조합 ( 예: m02, m33, m1024, ... )
             - 마감일 : yyyymmdd 형태의 숫자, (첫 y는 2이상, mm은 01~12, dd는 01~31)
             """),
     BROWSE_TASKS("""
@@ -59,7 +59,7 @@ public enum UIMessage {
             [입력방법]
             (1) 유형 : 1=기획 | 2=개발 | 3=디버그 | 4=기타
             (2) 상태 : 1=대기 | 2=진행 | 3=완료
-            (3) 담당자ID : 영소문자 "m"과 100 미만의 숫자의 조합 ( 예: m02, m33, ... )
+            (3) 담당자ID : 영소문자 "m"과 숫자의 조합 ( 예: m02, m33, m1024, ... )
             
             - "유형/상태/담당자ID" 중 각 기준에 대응되는 숫자를 입력합니다. (1,2,3)
             - 쉼표(,)를 입력한 후 기준별 조건에 해당하는 숫자, 또는 ID를 입력합니다.
@@ -92,7 +92,7 @@ public enum UIMessage {
             팀원ID / 팀원명 / 권한 / 담당업무
             
             [입력양식]
-            - 팀원ID : 영소문자 "m"과 100 이하의 숫자의 조합 ( 예: m02, m33, ... )
+            - 팀원ID : 영소문자 "m"과 숫자의 조합 ( 예: m02, m33, m1024, ... )
             - 팀원명 : 4 글자 이하의 한국어
             - 권한 : 1, 2, 3 중 하나 택 ( 1=Admin / 2=Member / 3=Viewer )
             - 업무참여 : TID, TID, TID, ... ( 예시 : t04, t23 )
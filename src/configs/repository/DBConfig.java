@@ -0,0 +1,64 @@
+package configs.repository;
+
+// [ DBConfig 개요 ]
+// - 저장소 엔진 선택, 데이터베이스 접속 정보와 Connection Pool, Entity Cache, 메모리 저장소 WAL, 파일 저장소, ID 발급 설정값들을 보관하기 위한 Config 파일임다.
+// - 호출할 때엔 "DBConfig.필드명.getValue()"으로 설정값 String을 얻을 수 있습니다.
+
+// [ 메모 ]
+// - 각 필드는 기본값을 갖고 있으며, 실행 시 "-D속성명=값" 으로 덮어쓸 수 있슴다.
+//   ex) java -Dpmt.db.url=jdbc:mysql://db:3306/projecttool -Dpmt.pool.size=20 main.Application
+// - 숫자 설정값은 getInt(), getLong()으로 바로 꺼내 쓸 수 있습니다.
+// - rewriteBatchedStatements=true 를 켜둬야 MySQL 드라이버가 addBatch()로 모은 INSERT를 한 문장으로 묶어 보냅니다.
+// - useServerPrepStmts=true 여야 StatementCache에 보관된 PreparedStatement가 서버 측 parse/plan까지 재사용합니다.
+// - useCursorFetch=true 여야 streamAll()의 fetchSize가 적용되어, 결과 전체가 아닌 fetchSize 행씩 받아옵니다.
+// - WAL 설정은 pmt.storage=memory 일 때만 쓰입니다.
+//   -> groupCommitMs : fsync 한 번에 묶을 쓰기를 기다리는 시간 (0이면 매번 바로 fsync)
+//   -> snapshotEvery : 스냅샷 사이의 최대 쓰기 수 (작을수록 재시작 시 재실행할 꼬리가 짧아져 복구가 빠름)
+// - 파일 저장소 설정은 pmt.storage=file 일 때만 쓰이며, sync=true면 쓰기마다 매핑된 파일을 디스크에 내려씁니다. (전원 차단 대비)
+// - id.blockSize는 IdAllocator가 한 번에 예약하는 ID 수입니다. (클수록 예약 왕복이 줄지만, 재시작 시 건너뛰는 ID가 많아짐)
+
+public enum DBConfig {
+    STORAGE("pmt.storage", "jdbc"),
+    URL("pmt.db.url", "jdbc:mysql://localhost:3306/projecttool?serverTimezone=Asia/Seoul&rewriteBatchedStatements=true&useServerPrepStmts=true&useCursorFetch=true"),
+    USER("pmt.db.user", "root"),
+    PASSWORD("pmt.db.password", "1111"),
+    DRIVER("pmt.db.driver", "com.mysql.cj.jdbc.Driver"),
+    STREAM_FETCH_SIZE("pmt.db.fetchSize", "500"),
+    // [ Connection Pool ]
+    POOL_SIZE("pmt.pool.size", "10"),
+    POOL_ACQUIRE_TIMEOUT_MS("pmt.pool.acquireTimeoutMs", "5000"),
+    POOL_LEAK_THRESHOLD_MS("pmt.pool.leakThresholdMs", "30000"),
+    POOL_STATEMENT_CACHE_SIZE("pmt.pool.statementCacheSize", "64"),
+    // [ Entity Cache ]
+    ENTITY_CACHE_SIZE("pmt.cache.entitySize", "1000"),
+    // [ Memory Storage WAL ]
+    WAL_ENABLED("pmt.wal.enabled", "true"),
+    WAL_DIR("pmt.wal.dir", "data/wal"),
+    WAL_GROUP_COMMIT_MS("pmt.wal.groupCommitMs", "2"),
+    WAL_SNAPSHOT_EVERY("pmt.wal.snapshotEvery", "10000"),
+    // [ File Storage ]
+    FILE_DIR("pmt.file.dir", "data/file"),
+    FILE_SYNC("pmt.file.sync", "false"),
+    // [ ID Allocation ]
+    ID_BLOCK_SIZE("pmt.id.blockSize", "1000");
+
+    private String property;
+    private String defaultValue;
+
+    private DBConfig(String property, String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    public String getValue() {
+        return System.getProperty(property, defaultValue);
+    }
+
+    public int getInt() {
+        return Integer.parseInt(getValue());
+    }
+
+    public long getLong() {
+        return Long.parseLong(getValue());
+    }
+}
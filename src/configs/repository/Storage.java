@@ -0,0 +1,21 @@
+package configs.repository;
+
+// [ Storage 개요 ]
+// - Repository들이 사용할 저장소 엔진을 담당하기 위한 Config 파일임다.
+// - 호출할 때엔 "Storage.selected()"로 실행 시 선택된 엔진을 얻을 수 있습니다.
+
+// [ 메모 ]
+// - JDBC   : MySQL에 저장 (기본값)
+// - MEMORY : 프로세스 메모리에 저장 (WAL로 재시작 시 복구), DB 서버 없이 부하 테스트나 소규모 실행에 활용
+// - FILE   : 메모리 매핑된 고정 길이 레코드 파일에 저장, DB 서버 없이 한 대에서 실행할 때 활용
+// - 실행 시 "-Dpmt.storage=memory" 또는 "-Dpmt.storage=file" 로 선택하며, 실행 중에는 바뀌지 않슴다.
+
+public enum Storage {
+    JDBC, MEMORY, FILE;
+
+    private static final Storage selected = valueOf(DBConfig.STORAGE.getValue().toUpperCase());
+
+    public static Storage selected() {
+        return selected;
+    }
+}
@@ -13,27 +13,27 @@ public enum FailureReason {
     ADD_TASK_STRUCTURE("\"항목1 / 항목2 / 항목3 / 항목4\" 형태로 입력해주세요."),
     ADD_TASK_NAME("업무명은 15자 이하의 한국어,영어,숫자만 입력 가능합니다."),
     ADD_TASK_TYPE("유형은 숫자 1,2,3,4 중 하나만 입력 가능합니다."),
-    ADD_TASK_ASSIGNEE("담당자ID는 m02, m33 등의 형태로만 입력 가능합니다. 보류하고 싶으시면 @을 입력해주세요."),
+    ADD_TASK_ASSIGNEE("담당자ID는 m02, m33, m1024 등의 형태로만 입력 가능합니다. 보류하고 싶으시면 @을 입력해주세요."),
     ADD_TASK_DUE("마감일은 yyyymmdd 형태의 숫자만 입력 가능합니다. 보류하고 싶으시면 @을 입력해주세요."),
     UPDATE_TASK_INFO_STRUCTURE("\"항목1 / 항목2 / 항목3 / 항목4 / 항목5\" 형태로 입력해주세요."),
-    UPDATE_TASK_INFO_TID("업무ID는 t02, t33 등의 형태로만 입력 가능합니다."),
+    UPDATE_TASK_INFO_TID("업무ID는 t02, t33, t1024 등의 형태로만 입력 가능합니다."),
     UPDATE_TASK_INFO_NAME("업무명은 15자 이하의 한국어,영어,숫자만 입력 가능합니다. 수정하지 않을 항목이면 @을 입력해주세요."),
     UPDATE_TASK_INFO_STATUS("상태는 숫자 1,2,3 중 하나만 입력 가능합니다. 수정하지 않을 항목이면 @을 입력해주세요."),
-    UPDATE_TASK_INFO_ASSIGNEE("담당자ID는 m02, m33 등의 형태로만 입력 가능합니다. 수정하지 않을 항목이면 @을 입력해주세요."),
+    UPDATE_TASK_INFO_ASSIGNEE("담당자ID는 m02, m33, m1024 등의 형태로만 입력 가능합니다. 수정하지 않을 항목이면 @을 입력해주세요."),
     UPDATE_TASK_INFO_DUE("마감일은 yyyymmdd 형태의 숫자만 입력 가능합니다. 수정하지 않을 항목이면 @을 입력해주세요."),
     BROWSE_TASKS_STRUCTURE("\"기준1,조건1 / 기준2,조건2 / ...\" 형태로 입력해주세요."),
     BROWSE_TASKS_CRITERIA("기준은 숫자 1,2,3 중 하나만 입력 가능합니다."),
     BROWSE_TASKS_DUPLICATED("하나의 기준을 여러 번 설정할 수 없습니다."),
     BROWSE_TASKS_CONDITION_TYPE("유형 조건은 숫자 1,2,3,4 중 하나만 입력 가능합니다."),
     BROWSE_TASKS_CONDITION_STATUS("상태 조건은 숫자 1,2,3 중 하나만 입력 가능합니다."),
-    BROWSE_TASKS_CONDITION_MID("팀원ID는 m02, m33 등의 형태로만 입력 가능합니다."),
+    BROWSE_TASKS_CONDITION_MID("팀원ID는 m02, m33, m1024 등의 형태로만 입력 가능합니다."),
     MEMBER_INVITE_STRUCTURE("\"항목1 / 항목2\" 형태로 입력해주세요."),
     MEMBER_UPDATE_STRUCTURE("\"항목1 / 항목2 / 항목3 / 항목4\" 형태로 입력해주세요."),
     MEMBER_BROWSE_CONDITION("조회 조건은 문자 \"@\"나 1,2 등의 형태로만 입력 가능합니다."),
-    MEMBER_MID("팀원ID는 m02, m33 등의 형태로만 입력 가능합니다."),
+    MEMBER_MID("팀원ID는 m02, m33, m1024 등의 형태로만 입력 가능합니다."),
     MEMBER_NAME("팀원명은 4자 이하의 한글로만 입력 가능합니다."),
     MEMBER_AUTH("권한은 숫자 1,2,3 중 하나만 입력 가능합니다."),
-    TASK_TID("업무ID는 t02, t33 등의 형태로만 입력 가능합니다.");
+    TASK_TID("업무ID는 t02, t33, t1024 등의 형태로만 입력 가능합니다.");
 
     private String reason;
 
@@ -3,42 +3,61 @@ package controller.controllers;
 import configs.message.Ingredient;
 import configs.project.TaskStatus;
 import configs.project.TaskType;
+import configs.repository.DBConfig;
 import controller.*;
 import managers.ConverterManager;
 import model.project.Project;
 import model.project.Task;
 import model.team.Member;
+import model.ProjectTeam;
+import model.ProjectStatistics;
+import model.event.AssignmentChanged;
+import model.event.TaskCreated;
+import model.event.TaskRemoved;
+import model.event.TaskUpdated;
 import model.team.Team;
-import repository.MemberRepository;
+import repository.IdAllocator;
 import repository.ProjectRepository;
 import repository.ProjectTeamRepository;
+import repository.UnitOfWork;
+import repository.query.TaskQuery;
 import utils.LogRecorder;
+import utils.cache.CacheStats;
+import utils.cache.EntityCache;
+import utils.event.EventBus;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 // [ ProjectController 클래스 설명 ]
 // - ProjectController는 Task 인스턴스들에 대한 CRUD 조작을 처리하기 위한 Controller 기반의 클래스임다.
-// - Project 클래스를 통해서만 인스턴스를 생성하고, Project의 HashMap 필드인 tasks를 참조하는 종속성을 갖슴다.
+// - Project 클래스를 통해서만 인스턴스를 생성하고, Project의 EntityCache 필드인 tasks를 참조하는 종속성을 갖슴다.
+// - get()은 tasks를 먼저 확인하고 없을 때만 DB를 조회하며, 등록/수정/삭제는 DB 반영 후 tasks에도 반영합니다.
+// - 업무 저장과 담당 팀원 배정처럼 여러 문장이 필요한 작업은 UnitOfWork로 묶어, 한 Connection / 한 트랜잭션으로 처리합니다.
+// - 등록/수정/삭제가 DB에 반영되면 EventBus로 이벤트(TaskCreated 등)를 발행하고, 통계와 활동 로그는 이를 구독해서 반영합니다.
 
 // [ 메모 ]
-// - add() 메서드 실행 마다 TID를 생성하고, index 필드의 값을 1씩 implement 해야 합니다.
+// - TID는 IdAllocator.TASKS가 발급합니다. (재시작해도 기존 ID와 겹치지 않고, 여러 스레드가 동시에 등록해도 안전)
+//   -> 발급은 UnitOfWork를 열기 전에 합니다. (IdAllocator 메모 참고)
 // - Task 인스턴스 생성 시 입력값이 보류된 필드에 대한 처리 방법의 고민이 필요합니다.
 //      ex) "비품구매/4/@/20270722" -> 보류된 assignee 필드에 null을 할당...? Optional.empty()...?
 // - "업무조회" 기능 관련해, 보류된 필드에 대한 출력값 설정이 필요합니다.
 //      ex) name=비품구매/type=기타/status=진행/assignee=null" -> 콘솔화면에서 assignee는 "미정"으로...?
 
 public class ProjectController extends Controller implements Adder<Task>, Getter<Task>, Updater, Remover {
-    private Map<String, Task> tasks;
-    private long index = 1;
+    private EntityCache<String, Task> tasks;
+    private final ProjectStatistics statistics = ProjectStatistics.getInstance();
+    private final EventBus events = EventBus.getInstance();
 
-    public ProjectController(Map<String, Task> tasks) {
+    public ProjectController(EntityCache<String, Task> tasks) {
         this.tasks = tasks;
     }
 
@@ -48,15 +67,72 @@ public class ProjectController extends Controller implements Adder<Task>, Getter
         // infos = 업무명 / 유형 / 담당자ID / 마감일
         // 자료형 = String / TaskType / Member / LocalDate
 
+        Task task;
+        try {
+            // [1] 신규 Task 인스턴스 생성 (ID 발급에 실패하면 null 반환)
+            task = create(infos);
+            // [2] 업무 저장과 담당 팀원 배정을 하나의 트랜잭션으로 처리 (쓰기는 commit 시 한 번에 전송)
+            try (UnitOfWork work = UnitOfWork.begin()) {
+                // [2-1] Projects 테이블(DB)에 업무 저장
+                ProjectRepository.getInstance().save(task);
+                // [2-2] 해당 프로젝트에 담당 팀원 배정 (쌓인 순서대로 전송되므로 업무 저장 뒤에 연결됨)
+                List<ProjectTeam> links = List.of();
+                if(!infos[2].equals("@")) {
+                    String[] mids =  infos[2].split(",");
+                    links = changeProjectTeam(task.getTid(), mids, Set.of());
+                }
+                work.commit();
+                tasks.put(task);
+                events.publish(new TaskCreated(task.getTid(), task.getName(), task.getStatus()));
+                publishAssigned(links);
+            }
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"add-save()");
+            e.printStackTrace();
+            // [메모] 저장되지 않은 업무를 돌려주면 화면에 등록 성공으로 보이므로 null 반환
+            return null;
+        }
+        return task;
+    }
+
+    /* 여러 업무를 한 번의 batch로 등록 (더미 데이터 등 대량 등록에 활용) */
+    public List<Task> addAll(List<String[]> infosList) {
+        List<Task> newTasks = new ArrayList<>();
+        try {
+            // [1] 입력값마다 Task 인스턴스 생성 (Connection을 잡기 전에 ID부터 모두 발급)
+            for (String[] infos : infosList) {
+                newTasks.add(create(infos));
+            }
+            // [2] 일괄 저장과 담당 팀원 배정을 하나의 트랜잭션으로 처리
+            try (UnitOfWork work = UnitOfWork.begin()) {
+                ProjectRepository.getInstance().saveAll(newTasks);
+                // [2-1] 담당 팀원이 지정된 업무만 배정 (연결들은 하나의 batch로 합쳐짐)
+                List<ProjectTeam> links = new ArrayList<>();
+                for (int i = 0; i < newTasks.size(); i++) {
+                    String assignees = infosList.get(i)[2];
+                    if(!assignees.equals("@")) {
+                        links.addAll(changeProjectTeam(newTasks.get(i).getTid(), assignees.split(","), Set.of()));
+                    }
+                }
+                work.commit();
+                tasks.putAll(newTasks);
+                for (Task task : newTasks) {
+                    events.publish(new TaskCreated(task.getTid(), task.getName(), task.getStatus()));
+                }
+                publishAssigned(links);
+            }
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"addAll-saveAll()");
+            e.printStackTrace();
+        }
+        return newTasks;
+    }
+
+    private Task create(String[] infos) throws SQLException {
         // [1] 항목별로 Task의 각 필드타입에 맞게 convert
         String tid = createId();
         String name = infos[0];
         TaskType type = ConverterManager.stringTaskType.convertTo(infos[1]);
-        // [1-2] 해당 프로젝트에 담당 팀원 배정
-        if(!infos[2].equals("@")) {
-            String[] mids =  infos[2].split(",");
-            changeProjectTeam(tid, mids);
-        }
         // 방금 등록한 프로젝트라서 NOT_STARTED로 초기화
         TaskStatus status = TaskStatus.values()[0];
         LocalDate dueTo = infos[3].equals("@")
@@ -64,16 +140,7 @@ public class ProjectController extends Controller implements Adder<Task>, Getter
                 : ConverterManager.stringDate.convertTo(infos[3]);
 
         // [2] 신규 Task 인스턴스 생성
-        Task task = new Task(tid, name, type, status, dueTo);
-
-        // [3] Projects 테이블(DB)에 업무 저장
-        try {
-            ProjectRepository.getInstance().save(task);
-        } catch (SQLException e) {
-            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"add-save()");
-            e.printStackTrace();
-        }
-        return task;
+        return new Task(tid, name, type, status, dueTo);
     }
 
     /* Update 담당 */
@@ -82,60 +149,69 @@ public class ProjectController extends Controller implements Adder<Task>, Getter
         // changes = TID / 업무명 / 상태 / 담당자ID / 마감일
         // 자료형 = String / String / TaskStatus / Member / LocalDate
 
-        // [1] TID로 해당 Task 인스턴스 찾아오기
+        // [1] TID로 해당 Task 인스턴스 찾아오기 (캐시에 있다면 DB 조회 없이)
         String tid = changes[0];
-        if(!ProjectRepository.getInstance().existsById(tid)){return;}
         Task targetTask = get(tid);
+        if(targetTask == null){return;}
         // 생략 기호("@") 확인 후 이전 값 혹은 변경값 선택
         // 업무명
         String name = changes[1].equals("@")? targetTask.getName():changes[1];
         // 업무 상태
         TaskStatus status = changes[2].equals("@")? targetTask.getStatus():ConverterManager.stringTaskStatus.convertTo(changes[2]);
         // 업무 마감일
-        LocalDate dueTo = changes[4].equals("@")? targetTask.getDueTo():ConverterManager.stringDate.convertTo(changes[3]);
-        // [1-2] 변경된 팀원들로 변경
-        if(!changes[3].equals("@")) {
-            String[] mids =  changes[3].split(",");
-            changeProjectTeam(tid, mids);
-        }
-
-        // [2] 입력값 바탕으로 각 필드 수정
-        targetTask.setName(name);
-        targetTask.setStatus(status);
-        targetTask.setDueTo(dueTo);
-        // [2-1] 필드가 수정된 객체를 DB에 저장
-        try {
-            ProjectRepository.getInstance().update(targetTask);
+        LocalDate dueTo = changes[4].equals("@")? targetTask.getDueTo():ConverterManager.stringDate.convertTo(changes[4]);
+        TaskStatus before = targetTask.getStatus();
+        // [메모] 캐시의 인스턴스는 다른 조회들과 공유되므로 직접 고치지 않고, 복사본을 고쳐서 commit 뒤에 교체함
+        Task updated = new Task(tid, name, targetTask.getType(), status, dueTo, targetTask.getCreatedAt());
+        updated.setAssignee(targetTask.getAssignee());
+        // [2] 팀원 배정과 업무 수정을 하나의 트랜잭션으로 처리
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            // [2-1] 변경된 팀원들로 변경 (이미 배정된 팀원은 한 번의 조회로 걸러냄)
+            List<ProjectTeam> links = List.of();
+            if(!changes[3].equals("@")) {
+                String[] mids =  changes[3].split(",");
+                links = changeProjectTeam(tid, mids, ProjectTeamRepository.getInstance().findMemberIdsOf(tid));
+            }
+            // [2-2] 입력값이 반영된 복사본을 DB에 저장
+            ProjectRepository.getInstance().update(updated);
+            work.commit();
+            // [3] commit 됐다면 updatedAt 필드를 최신화하고 캐시의 인스턴스를 교체
+            updated.updateTime();
+            tasks.put(updated);
+            events.publish(new TaskUpdated(tid, name, before, status));
+            publishAssigned(links);
         } catch (SQLException e) {
+            // [메모] 캐시엔 commit 된 인스턴스가 그대로 남아 있으므로 따로 되돌릴 것이 없음
             LogRecorder.record(Ingredient.LOG_ERROR_SQL,"update-update()");
         }
-        // [3] 해당 Task의 updatedAt 필드 최신화
-        targetTask.updateTime();
     }
 
-    private void changeProjectTeam(String tid, String[] mids) {
-        for (String mid : mids){
-            Member member = null;
-            try{
-                member = MemberRepository.getInstance().findById(mid);
-            } catch (SQLException e) {
-                LogRecorder.record(Ingredient.LOG_ERROR_SQL,"changeProjectTeam-findById()");
-            }
-            if(member != null){
-                if(!ProjectTeamRepository.getInstance().exists(tid,mid)){
-                    try{ProjectTeamRepository.getInstance().addMemberToProject(tid,mid);}catch (SQLException e){
-                        LogRecorder.record(Ingredient.LOG_ERROR_SQL,"changeProjectTeam-addMemberToProject()");
-                    }
-                }
+    /* 업무에 담당 팀원들을 배정 (존재하지 않거나 이미 배정된 팀원은 제외하고 한 번의 batch로 연결, 연결한 쌍들을 반환) */
+    private List<ProjectTeam> changeProjectTeam(String tid, String[] mids, Set<String> assigned) throws SQLException {
+        // [1] 중복 입력을 걸러내고, 존재하는 팀원 중 아직 배정되지 않은 팀원만 추림
+        List<ProjectTeam> links = new ArrayList<>();
+        for (String mid : new LinkedHashSet<>(Arrays.asList(mids))){
+            Member member = Team.getInstance().controller.get(mid);
+            if(member != null && !assigned.contains(mid)){
+                links.add(new ProjectTeam(tid, mid));
             }
         }
+        // [2] batch로 연결 (UnitOfWork 안이라면 commit 시 전송)
+        ProjectTeamRepository.getInstance().addMembersToProjects(links);
+        return links;
+    }
+
+    private void publishAssigned(List<ProjectTeam> links) {
+        if(!links.isEmpty()) {
+            events.publish(new AssignmentChanged(links));
+        }
     }
 
     /* Read 담당 */
     @Override
     public Task get(String tid) {
         try{
-            return ProjectRepository.getInstance().findById(tid);
+            return tasks.get(tid, ProjectRepository.getInstance()::findById);
         }catch (SQLException e){
             LogRecorder.record(Ingredient.LOG_ERROR_SQL,"get-findById()");
             e.printStackTrace();
@@ -147,55 +223,42 @@ public class ProjectController extends Controller implements Adder<Task>, Getter
     @Override
     public void remove(String tid) {
         try {
+            // [1] 이벤트에 담을 업무 정보와 배정된 팀원들은 삭제 전에 확인 (없는 업무라면 할 것이 없음)
+            Task task = tasks.get(tid, ProjectRepository.getInstance()::findById);
+            if(task == null){return;}
+            Set<String> mids = ProjectTeamRepository.getInstance().findMemberIdsOf(tid);
+            // [2] 삭제 후 캐시에 반영하고 이벤트 발행
             ProjectRepository.getInstance().deleteById(tid);
+            tasks.invalidate(tid);
+            events.publish(new TaskRemoved(tid, task.getName(), task.getStatus(), mids));
         } catch (SQLException e) {
             LogRecorder.record(Ingredient.LOG_ERROR_SQL,"remove-findById()");
         }
     }
 
-    /* 조건에 부합하는 Task의 정보를 추출하는 메서드 */
+    /* 조건에 부합하는 Task의 정보를 추출하는 메서드 (반환된 Stream은 다 쓴 뒤 close() 해야 Connection이 반납됨) */
     public Stream<Task> browse(String[] inputs) {
-        // [1] tasks에 대한 스트림 시작
-        Stream<Task> filtering = this.getAll().stream();
-
-        // [2] 입력받은 기준들을 순회하며 필터링 반복
-        for (String input : inputs) {
-            // [Loop-1] 입력값을 통해 조회기준과 조건을 추출
-            String[] field = input.split(",");
-            String criteria = field[0];
-            String condition = field[1];
-
-            // [Loop-2] 기준별로 조건에 부합하지 않는 Task 걸러내기
-            switch (criteria) {
-                case "1": // 업무유형 비교
-                    filtering = filtering.filter(a -> a.getType() == ConverterManager.stringTaskType.convertTo(condition));
-                    break;
-                case "2": // 업무상태 비교
-                    filtering = filtering.filter(a -> a.getStatus() == ConverterManager.stringTaskStatus.convertTo(condition));
-                    break;
-                case "3": // 담당자 비교
-                    filtering = filtering.filter(a -> {
-                        Member assignee = a.getAssignee(); // [메모] null 체크를 하지 않으면 무조건 에러 발생
-                        return assignee != null && assignee.getMid().equals(condition);
-                    });
-                    break;
-                default:
-                    // [메모] 여기로 올 일이 없어서 우째야 하나 고민
-                    // throw new Exception();
-            }
-        }
+        // [1] 입력받은 기준들을 조회 조건으로 변환 (유형 / 상태 / 담당자ID)
+        TaskQuery query = TaskQuery.from(inputs);
 
-        // [3] 필터링 마친 Task들을 스트림 형태로 반환
-        return filtering;
+        // [2] 필터링은 DB의 WHERE 절에서 처리하고, 조건에 맞는 Task만 fetchSize 행씩 받아옴 (전체를 List로 모으지 않음)
+        // [3] 받아온 Task는 캐시에 보관된 인스턴스로 치환 (이후 TID로 다시 찾을 때 DB 조회 생략)
+        try {
+            return ProjectRepository.getInstance().streamByQuery(query, DBConfig.STREAM_FETCH_SIZE.getInt()).map(tasks::intern);
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"browse-findByQuery()");
+            return Stream.empty();
+        }
     }
 
     /*  현존 Task들의 유형별 개수 세기 (홈화면 overview에 활용) */
     public List<String> countTasksByStatus() {
-        // [1] 유형별로 셀 수 있는 변수 준비
-        int[] count = {0, 0, 0, ProjectRepository.getInstance().count()};
-        // [2] task들 순회하면서 유형별로 count (출력 순서는 완료-진행-대기라서 인덱스를 뒤집어줘야 함)
-        // [수정예정] 상수 2에서 빼는 방식 말고, reverse든 뭐든 방법을 찾아서 뒤집기
-        this.getAll().forEach(task -> count[2-task.getStatus().ordinal()] += 1);
+        // [1] 메모리에 유지되는 상태별 개수를 읽음 (DB 조회 없음)
+        // [2] 출력 순서(완료-진행-대기-전체)에 맞게 정리, 전체는 상태별 개수의 합
+        int completed = statistics.countOf(TaskStatus.COMPLETED);
+        int inProgress = statistics.countOf(TaskStatus.IN_PROGRESS);
+        int notStarted = statistics.countOf(TaskStatus.NOT_STARTED);
+        int[] count = {completed, inProgress, notStarted, completed + inProgress + notStarted};
         // [3] 각 갯수 모은 int 배열을 String List로 변환해 반환
         // [메모] 바로 toList() 하면 그 List는 Immutable이라서, Collectors.toList()를 해야 add할 수 있음
         return Arrays.stream(count).mapToObj(String::valueOf).collect(Collectors.toList());
@@ -210,7 +273,12 @@ public class ProjectController extends Controller implements Adder<Task>, Getter
         }
     }
 
-    private String createId() {
-        return index < 10 ? "t0" + index++ : "t" + index++;
+    /* 업무 캐시의 적중/미스 통계 */
+    public CacheStats getCacheStats() {
+        return tasks.getStats();
+    }
+
+    private String createId() throws SQLException {
+        return IdAllocator.TASKS.next();
     }
 }
@@ -1,17 +1,29 @@
 package controller.controllers;
 
 import configs.message.Ingredient;
+import configs.repository.DBConfig;
 import configs.team.Authority;
 import controller.*;
 import managers.ConverterManager;
 import model.project.Project;
 import model.project.Task;
+import model.ProjectTeam;
+import model.ProjectStatistics;
+import model.event.AssignmentChanged;
+import model.event.MemberDismissed;
+import model.event.MemberInvited;
+import model.event.MemberUpdated;
 import model.team.Member;
+import repository.IdAllocator;
 import repository.MemberRepository;
-import repository.ProjectRepository;
 import repository.ProjectTeamRepository;
+import repository.UnitOfWork;
+import repository.query.MemberQuery;
 import utils.LogRecorder;
 import utils.Pair;
+import utils.cache.CacheStats;
+import utils.cache.EntityCache;
+import utils.event.EventBus;
 
 import java.sql.SQLException;
 import java.util.*;
@@ -19,18 +31,23 @@ import java.util.stream.Stream;
 
 // [ TeamController 클래스 설명 ]
 // - TeamController는 Member 인스턴스들에 대한 CRUD 조작을 처리하기 위한 Controller 기반의 클래스임다.
-// - Team 클래스를 통해서만 인스턴스를 생성하고, Team의 HashMap 필드인 members를 참조하는 종속성을 갖슴다.
+// - Team 클래스를 통해서만 인스턴스를 생성하고, Team의 EntityCache 필드인 members를 참조하는 종속성을 갖슴다.
+// - get()은 members를 먼저 확인하고 없을 때만 DB를 조회하며, 등록/수정/삭제는 DB 반영 후 members에도 반영합니다.
+// - 담당 업무 배정과 팀원 수정처럼 여러 문장이 필요한 작업은 UnitOfWork로 묶어, 한 Connection / 한 트랜잭션으로 처리합니다.
+// - 등록/수정/삭제가 DB에 반영되면 EventBus로 이벤트(MemberInvited 등)를 발행하고, 통계와 활동 로그는 이를 구독해서 반영합니다.
 
 // [ 메모 ]
-// - add() 메서드 실행 마다 MID를 생성하고, index 필드의 값을 1씩 implement 해야 합니다.
+// - MID는 IdAllocator.MEMBERS가 발급합니다. (재시작해도 기존 ID와 겹치지 않고, 여러 스레드가 동시에 등록해도 안전)
+//   -> 팀원 등록은 UnitOfWork 없이 저장하므로, 발급 중에 붙잡고 있는 Connection이 없슴다. (묶게 되더라도 발급은 begin() 전에)
 // - "팀원조회" 기능 관련해, 보류된 필드에 대한 출력값 설정이 필요합니다.
 //      ex) name=홍길동/auth=null/tasks=null" -> 콘솔화면에서 auth는 "미정", tasks는 "없음"으로...?
 
 public class TeamController extends Controller implements Adder, Getter<Member>, Updater, Remover {
-    private Map<String, Member> members;
-    private long index = 1;
+    private EntityCache<String, Member> members;
+    private final ProjectStatistics statistics = ProjectStatistics.getInstance();
+    private final EventBus events = EventBus.getInstance();
 
-    public TeamController(Map<String, Member> members) {
+    public TeamController(EntityCache<String, Member> members) {
         this.members = members;
     }
 
@@ -39,29 +56,57 @@ public class TeamController extends Controller implements Adder, Getter<Member>,
         // infos = 팀원명 / 권한
         // 자료형 = String / Authority
 
-        // [1] 항목별로 Team의 각 필드타입에 맞게 convert
-        String mid = createMID();
-        String name = infos[0];
-        Authority auth = ConverterManager.stringAuthority.convertTo(infos[1]);
-
-        // [2] 멤버 신규 인스턴스 생성
-        Member member = new Member(mid, name, auth);
-
-        // [3] members에 멤버 저장
+        Member member;
         try{
+            // [1] 멤버 신규 인스턴스 생성 (ID 발급에 실패하면 null 반환)
+            member = create(infos);
+            // [2] members에 멤버 저장
             MemberRepository.getInstance().save(member);
+            members.put(member);
+            events.publish(new MemberInvited(member.getMid(), member.getName()));
         }catch(SQLException e){
             LogRecorder.record(Ingredient.LOG_ERROR_SQL,"멤버 저장");
             e.printStackTrace();
+            // [메모] 저장되지 않은 팀원을 돌려주면 화면에 초대 성공으로 보이므로 null 반환
+            return null;
         }
         return member;
     }
 
+    /* 여러 팀원을 한 번의 batch로 등록 (더미 데이터 등 대량 등록에 활용) */
+    public List<Member> addAll(List<String[]> infosList) {
+        List<Member> newMembers = new ArrayList<>();
+        try{
+            for (String[] infos : infosList) {
+                newMembers.add(create(infos));
+            }
+            MemberRepository.getInstance().saveAll(newMembers);
+            members.putAll(newMembers);
+            for (Member member : newMembers) {
+                events.publish(new MemberInvited(member.getMid(), member.getName()));
+            }
+        }catch(SQLException e){
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"멤버 일괄 저장");
+            e.printStackTrace();
+        }
+        return newMembers;
+    }
+
+    private Member create(String[] infos) throws SQLException {
+        // [1] 항목별로 Team의 각 필드타입에 맞게 convert
+        String mid = createMID();
+        String name = infos[0];
+        Authority auth = ConverterManager.stringAuthority.convertTo(infos[1]);
+
+        // [2] 멤버 신규 인스턴스 생성
+        return new Member(mid, name, auth);
+    }
+
     @Override
     public Member get(String eid) {
 
         try {
-            return MemberRepository.getInstance().findById(eid);
+            return members.get(eid, MemberRepository.getInstance()::findById);
         } catch (SQLException e) {
             LogRecorder.record(Ingredient.LOG_ERROR_SQL,"멤버 호출");
             return null;
@@ -74,43 +119,41 @@ public class TeamController extends Controller implements Adder, Getter<Member>,
         // 자료형 = String / String / Authority / String
         // [1] 항목별로 Team의 각 필드타입에 맞게 convert
         String mid = changes[0];
-        if(MemberRepository.getInstance().existsById(mid)) {return;}
         Member member = get(mid);
+        if(member == null) {return;}
         String name = changes[1];
         Authority auth = changes[2].equals("@") ?
                 member.getAuth() : ConverterManager.stringAuthority.convertTo(changes[2]);
 
-        // [2] tid로 해당 팀원에게 업무 할당
-        if(!changes[3].equals("@")){
-            String[] tids = changes[3].split(",");
-            for (String tid : tids) {
-                Task task = null;
-                try{
-                    task = ProjectRepository.getInstance().findById(tid);
-                }catch (SQLException e){
-                    LogRecorder.record(Ingredient.LOG_ERROR_SQL,"update-findById()");
-                }
-                if(task != null) {
-                    // insert 문 쓰는데 복합키를 기본키로 쓰기 때문에 존재 검사 먼저 해야함
-                    // exist함수들만 다 예외처리 해둠.(존재 검사 오류 -> 로그로 던짐)
-                    if (!ProjectTeamRepository.getInstance().exists(mid, tid)) {
-                        try{ProjectTeamRepository.getInstance().addMemberToProject(tid,mid);}
-                        catch(SQLException e){LogRecorder.record(Ingredient.LOG_ERROR_SQL,"프로젝트에 멤버 추가");}
+        // [메모] 캐시의 인스턴스는 다른 조회들과 공유되므로 직접 고치지 않고, 복사본을 고쳐서 commit 뒤에 교체함
+        Member updated = new Member(mid, name.equals("@") ? member.getName() : name, auth);
+
+        // [2] 업무 할당과 팀원 수정을 하나의 트랜잭션으로 처리 (쓰기는 commit 시 한 번에 전송)
+        try(UnitOfWork work = UnitOfWork.begin()){
+            // [2-1] tid로 해당 팀원에게 업무 할당
+            List<ProjectTeam> links = new ArrayList<>();
+            if(!changes[3].equals("@")){
+                // insert 문 쓰는데 복합키를 기본키로 쓰기 때문에, 이미 배정된 업무ID들을 한 번에 조회해서 걸러냄
+                Set<String> assigned = ProjectTeamRepository.getInstance().findProjectIdsOf(mid);
+                for (String tid : new LinkedHashSet<>(Arrays.asList(changes[3].split(",")))) {
+                    Task task = Project.getInstance().controller.get(tid);
+                    if(task != null && !assigned.contains(tid)) {
+                        links.add(new ProjectTeam(tid, mid));
                     }
-
                 }
+                ProjectTeamRepository.getInstance().addMembersToProjects(links);
+            }
+            // [3] 다른 요소가 반영된 복사본으로 DB 업데이트
+            MemberRepository.getInstance().update(updated);
+            work.commit();
+            // [4] commit 됐다면 캐시의 인스턴스를 교체
+            members.put(updated);
+            events.publish(new MemberUpdated(mid, updated.getName()));
+            if(!links.isEmpty()) {
+                events.publish(new AssignmentChanged(links));
             }
-        }
-        // [3] 다른 요소 업데이트
-        if(!name.equals("@")){
-            member.setName(name);
-        }
-        member.setAuth(auth);
-
-        // DB 업데이트
-        try{
-            MemberRepository.getInstance().update(member);
         }catch(SQLException e){
+            // [메모] 캐시엔 commit 된 인스턴스가 그대로 남아 있으므로 따로 되돌릴 것이 없음
             LogRecorder.record(Ingredient.LOG_ERROR_SQL,"팀원 수정");
         }
 
@@ -119,15 +162,25 @@ public class TeamController extends Controller implements Adder, Getter<Member>,
     @Override
     public void remove(String eid) {
         try {
+            // [메모] 없는 팀원이라면 알릴 것도 없음
+            Member member = get(eid);
+            if(member == null){return;}
             MemberRepository.getInstance().deleteById(eid);
+            members.invalidate(eid);
+            events.publish(new MemberDismissed(eid, member.getName()));
         } catch (SQLException e) {
             LogRecorder.record(Ingredient.LOG_ERROR_SQL,"팀원 삭제");
         }
 
     }
 
-    private String createMID() {
-        return index < 10 ? "m0" + index++ : "m" + index++;
+    /* 팀원 캐시의 적중/미스 통계 */
+    public CacheStats getCacheStats() {
+        return members.getStats();
+    }
+
+    private String createMID() throws SQLException {
+        return IdAllocator.MEMBERS.next();
     }
 
     public Collection<Member> getAll() {
@@ -146,44 +199,33 @@ public class TeamController extends Controller implements Adder, Getter<Member>,
     }
     /* 담당업무 보유 여부별 팀원 세기 (홈화면 overview에 활용) */
     public Pair<Integer, Integer> countAssignment() {
-        // [1] 담당 업무가 있는 팀원 세기
-        int assigneeCount = (int) this.getAll().stream().filter(member -> {
-            Set<Task> tasks = new HashSet<>();
-            try{tasks = ProjectTeamRepository.getInstance().findProjectbyMember(member.getMid());}
-            catch(SQLException e){LogRecorder.record(Ingredient.LOG_ERROR_SQL,"담당 업무 검색");}
-            return tasks != null && !tasks.isEmpty();
-        }).count(); // [변경예정] Math.toIntExact() 이 방법으로 형변환하기
+        // [1] 업무보유자 수와 전체 팀원 수는 메모리에 유지되는 통계에서 읽음 (DB 조회 없음)
         // [2] Pair 반환 (업무보유자 수, 전체 팀원 수)
-        return new Pair<>(assigneeCount,MemberRepository.getInstance().count());
+        return new Pair<>(statistics.assignedMemberCount(), statistics.memberCount());
     }
-    /* 조건에 부합하는 Member의 정보를 추출하는 메서드 */
+    /* 조건에 부합하는 Member의 정보를 추출하는 메서드 (반환된 Stream은 다 쓴 뒤 close() 해야 Connection이 반납됨) */
     public Stream<Member> browse(String[] inputs) {
-        Stream<Member> filtering = this.getAll().stream();
-        if(inputs[0].equals("@")){
-            return filtering;
-        }
-
-        List<String> filters = Arrays.asList(inputs);
-
-        return filtering.filter(m ->{
-            // 해당 항목을 고른지 안 고른지 우선 판단
-            // 그 조건문 안에서 검사
-            boolean found = true;
-            if (filters.contains("1")||filters.contains("2")||filters.contains("3")) {
-                found = (filters.contains("1") && m.getAuth() == Authority.ADMIN)||
-                        (filters.contains("2") && m.getAuth() == Authority.MEMBER)||
-                        (filters.contains("3") && m.getAuth() == Authority.VIEWER);
-            }
-
-            boolean hasTasks = !m.getTasks().isEmpty();
-            boolean found2 = true;
-            if (filters.contains("4")||filters.contains("5")) {
-                found2 = (filters.contains("4") && hasTasks)||
-                        (filters.contains("5") &&  !hasTasks );
-            }
-            return found && found2;
-        });
+        // [1] 권한(1~3)과 담당업무 보유 여부(4,5) 조건을 하나의 조회 조건으로 변환
+        MemberQuery query = MemberQuery.from(inputs);
 
+        // [2] IN / EXISTS 조건으로 DB에서 한 번에 필터링
+        // [3] 받아온 Member는 캐시에 보관된 인스턴스로 치환 (이후 MID로 다시 찾을 때 DB 조회 생략)
+        try {
+            return MemberRepository.getInstance().streamByQuery(query, DBConfig.STREAM_FETCH_SIZE.getInt()).map(members::intern);
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"팀원 조건 조회");
+            return Stream.empty();
+        }
+    }
 
+    /* 팀원들의 담당 업무를 한 번의 조회로 모아오는 메서드 (팀원ID -> 담당 업무 Set) */
+    public Map<String, Set<Task>> getTasksOf(Collection<Member> members) {
+        List<String> mids = members.stream().map(Member::getMid).toList();
+        try {
+            return ProjectTeamRepository.getInstance().findProjectsByMembers(mids);
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"팀원별 담당 업무 조회");
+            return new HashMap<>();
+        }
     }
 }
@@ -0,0 +1,56 @@
+package functions;
+
+import configs.message.Ingredient;
+import configs.message.SystemMessage;
+import configs.message.UIMessage;
+import managers.MessageBuilderManager;
+import managers.messageBuild.MessageBuilder;
+import model.ProjectStatistics;
+import model.project.Project;
+import model.team.Team;
+import utils.Graph;
+import utils.LogRecorder;
+import utils.Pair;
+import utils.event.EventBus;
+
+import java.util.List;
+
+// [ Dashboard 클래스 설명 ]
+// - Dashboard는 홈 화면(프로젝트 현황 + 최근 활동 + 기능 선택 안내)을 완성된 문자열로 만들어 보관하는 클래스임다.
+// - 데이터 버전(EventBus.version())과 최근 활동 문자열이 그대로라면, 만들어둔 화면을 그대로 돌려줍니다.
+//   -> 홈 화면으로 몇 번을 돌아와도, 그 사이 쓰기가 없었다면 조회도 문자열 제작도 하지 않슴다.
+
+// [ 메모 ]
+// - 버전을 먼저 읽고 통계를 읽으므로, 그 사이 쓰기가 있었다면 다음 호출에서 다시 만듭니다. (오래된 화면이 남지 않음)
+// - 최근 활동은 LogRecorder.getRecentLogs()가 새 기록이 없으면 같은 String 인스턴스를 돌려주므로, 참조 비교(==)로 확인합니다.
+// - 통계를 reconcile()로 다시 맞춘 경우엔 이벤트가 없으므로, 그 횟수도 함께 확인합니다.
+
+public class Dashboard {
+    // [메모] 만들어둔 홈 화면과, 그 화면이 반영한 데이터 버전 / 통계 재집계 횟수 / 최근 활동 문자열
+    private record Snapshot(long dataVersion, long reconciled, String recentLogs, String screen) {}
+    private static volatile Snapshot snapshot = new Snapshot(-1, -1, null, null);
+
+    public static String render() {
+        // [1] 버전들과 최근 활동 문자열을 먼저 확인하고, 모두 같다면 만들어둔 화면 그대로
+        long dataVersion = EventBus.getInstance().version();
+        long reconciled = ProjectStatistics.getInstance().reconciledCount();
+        String recentLogsMsg = LogRecorder.getRecentLogs();
+        Snapshot cached = snapshot;
+        if (cached.dataVersion() == dataVersion && cached.reconciled() == reconciled && cached.recentLogs() == recentLogsMsg) {
+            return cached.screen();
+        }
+
+        // [2] overview 제작에 필요한 정보 모으고 메세지 재료 제작 (통계는 메모리에서 읽음)
+        List<String> overviewInfos = Project.getInstance().controller.countTasksByStatus();
+        Pair<Integer,Integer> assignment = Team.getInstance().controller.countAssignment();
+        overviewInfos.add(Graph.draw(assignment.getKey(), assignment.getValue()));
+        String overviewMsg = MessageBuilderManager.overview.build(Ingredient.OVERVIEW.getFormat(),overviewInfos);
+
+        // [3] 최종 메세지 제작 (UIMessage + SystemMessage) 후 보관
+        String uiMsg = MessageBuilderManager.ui.build(UIMessage.HOME.getMsg(), MessageBuilder.pack(overviewMsg,recentLogsMsg));
+        String sysMsg = MessageBuilderManager.system.build(SystemMessage.HOME.getMsg());
+        String screen = MessageBuilder.integrate(uiMsg, sysMsg);
+        snapshot = new Snapshot(dataVersion, reconciled, recentLogsMsg, screen);
+        return screen;
+    }
+}
@@ -13,12 +13,10 @@ import managers.messageBuild.UIMessageBuilder;
 import managers.messageBuild.ingredient.TaskListMessageBuilder;
 import model.project.Project;
 import model.project.Task;
-import utils.LogRecorder;
 import utils.Pair;
 import utils.console.InputReader;
 import utils.console.Viewer;
 
-import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -63,13 +61,17 @@ public class ProjectFuncs {
             // [Loop-3] 입력값에 대한 유효성 검사
             alert = ValidatorManager.addTask.check(input);
 
-            // [Loop-4] 검증 성공 시 입력된 정보를 컨트롤러에 전달, 업무 생성 로그 기록
+            // [Loop-4] 검증 성공 시 입력된 정보를 컨트롤러에 전달 (업무 생성 로그는 컨트롤러가 발행한 이벤트로 기록됨)
             if (alert.getKey()) {
                 String[] inputs = alert.getValue().split("/");
                 Task newTask = Project.getInstance().controller.add(inputs);
+                // [메모] ID 발급이나 저장에 실패하면 null이 반환되므로, 실패 메세지 전달
+                if (newTask == null) {
+                    alert = new Pair<>(false, Ingredient.ADD_TASK_FAILED.getFormat());
+                    continue;
+                }
 
                 String taskName = newTask.getName();
-                LogRecorder.record(Ingredient.LOG_ADD_TASK,taskName);
                 // [메모] 시스템 메세지 갱신을 위해선 alert의 key가 false가 돼줘야 함...
                 alert = new Pair<>(false,String.format(Ingredient.ADD_TASK_SUCCESS.getFormat(),taskName,newTask.getTid()));
             }
@@ -113,11 +115,10 @@ public class ProjectFuncs {
                     alert = new Pair<>(false,Ingredient.REMOVE_TASK_FAILED.getFormat());
                     continue;
                 } else {
-                    // [3 B] 제거에 성공했다는 메세지 전달 및 로그 기록
+                    // [3 B] 제거에 성공했다는 메세지 전달
                     String taskName = targetTask.getName();
                     alert = new Pair<>(false,String.format(Ingredient.REMOVE_TASK_SUCCESS.getFormat(),taskName));
-                    LogRecorder.record(Ingredient.LOG_REMOVE_TASK,taskName);
-                    pc.remove(targetTask.getTid()); // [메모] 로그 저장을 먼저하지 않으면 에러 발생
+                    pc.remove(targetTask.getTid());
                     continue;
                 }
             }
@@ -125,14 +126,13 @@ public class ProjectFuncs {
             // [Loop-4] 입력값에 대한 유효성 검사
             alert = ValidatorManager.updateTaskInfo.check(input);
 
-            // [Loop-5] 검증 성공 시 입력된 정보로 업무 수정 및 로그 기록
+            // [Loop-5] 검증 성공 시 입력된 정보로 업무 수정
             if (alert.getKey()) {
                 String[] inputs = alert.getValue().split("/");
                 pc.update(alert.getValue().split("/"));
 
                 // [메모] 업무명이 입력되지 않았을 수 있으니 찾아서 넣어줘야 함
                 String taskName = inputs[1].equals("@") ? pc.get(inputs[0]).getName() : inputs[1];
-                LogRecorder.record(Ingredient.LOG_UPDATE_TASK_INFO,taskName);
 
                 // [메모] 시스템 메세지 갱신을 위해선 alert의 key가 false가 돼줘야 함...
                 alert = new Pair<>(false,String.format(Ingredient.UPDATE_TASK_INFO_SUCCESS.getFormat(),taskName));
@@ -180,26 +180,27 @@ public class ProjectFuncs {
 
     /* "업무조회" 파생 화면 -> 업무 목록 출력 */
     public static boolean showFilteredTasks(String[] inputs) {
-        // [1] Project에서 조건에 해당하는 Task들의 정보 추출
-        Stream<Task> browsing = Project.getInstance().controller.browse(inputs);
-        List<String> filteredTasks = browsing.map(Task::toString).toList();
-
-        // [2] 필터링된 정보들로 재료 메세지 제작
+        // [1] Project에서 조건에 해당하는 Task들을 받아오는 대로, 필드에서 바로 재료 메세지에 이어 씀 (목록으로 모으지 않음)
+        // [메모] browse()의 Stream은 DB 커서를 열고 있으므로 try-with-resources로 닫아줘야 함
         TaskListMessageBuilder taskListBuilder = MessageBuilderManager.taskList;
-        String messageIngredients = taskListBuilder.build(Ingredient.TASK_LIST.getFormat(), filteredTasks);
+        StringBuilder listing = new StringBuilder(4096);
+        try (Stream<Task> browsing = Project.getInstance().controller.browse(inputs)) {
+            taskListBuilder.appendTasks(listing, Ingredient.TASK_LIST.getFormat(), browsing::iterator);
+        }
+        String messageIngredients = listing.toString();
 
-        // [3] 재료 메세지들로 최종 메세지 제작
+        // [2] 재료 메세지들로 최종 메세지 제작
         UIMessageBuilder uiBuilder = MessageBuilderManager.ui;
         SystemMessageBuilder sysBuilder = MessageBuilderManager.system;
 
         String uiMsg = uiBuilder.build(UIMessage.BROWSE_TASKS_RESPOND.getMsg(), MessageBuilder.pack(messageIngredients));
         String sysMsg = sysBuilder.build(SystemMessage.BROWSE_TASKS_RESPOND.getMsg());
 
-        // [4] 갈무리한 업무 목록 출력
+        // [3] 갈무리한 업무 목록 출력
         Viewer.clear();
         Viewer.print(MessageBuilder.integrate(uiMsg, sysMsg));
 
-        // [5] 특정 번호 입력 시 홈 화면으로 복귀, 아니라면 다시 조회화면으로
+        // [4] 특정 번호 입력 시 홈 화면으로 복귀, 아니라면 다시 조회화면으로
         String input = InputReader.read();
         return input.equals("486");
     }
@@ -24,13 +24,13 @@ import model.project.Project;
 import model.project.Task;
 import model.team.Member;
 import model.team.Team;
-import utils.LogRecorder;
 import utils.Pair;
 import utils.console.InputReader;
 import utils.console.Viewer;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 public class TeamFuncs {
@@ -63,8 +63,12 @@ public class TeamFuncs {
             if (alert.getKey()){
                 TeamController teamController = Team.getInstance().controller;
                 Member member = teamController.add(alert.getValue().split("/"));
+                // [메모] ID 발급이나 저장에 실패하면 null이 반환되므로, 실패 메세지 전달
+                if (member == null) {
+                    alert = new Pair<>(false, sysBuilder.build(Ingredient.INVITE_MEMBER_FAILED.getFormat()));
+                    continue;
+                }
                 String succeedMsg = sysBuilder.build(Ingredient.INVITE_MEMBER_SUCCESS.getFormat(), MessageBuilder.pack(member.getName(),member.getMid()));
-                LogRecorder.record(Ingredient.LOG_INVITE_MEMBER,member.getName());
                 alert = new Pair<>(false, succeedMsg);
             }
 
@@ -103,7 +107,6 @@ public class TeamFuncs {
                     teamController.update(alert.getValue().split("/"));
                     Member member = teamController.get(alert.getValue().split("/")[0]);
                     String succeedMsg = sysBuilder.build(Ingredient.UPDATE_MEMBER_INFO_SUCCESS.getFormat(), MessageBuilder.pack(member.getName()));
-                    LogRecorder.record(Ingredient.LOG_UPDATE_MEMBER_INFO,member.getName());
                     alert = new Pair<>(false, succeedMsg);
                 }
             }else{
@@ -115,7 +118,6 @@ public class TeamFuncs {
                         String memberName = teamController.get(alert.getValue()).getName();
                         teamController.remove(alert.getValue());
                         String succeedMsg = sysBuilder.build(Ingredient.DISMISS_MEMBER_SUCCESS.getFormat(), MessageBuilder.pack(memberName));
-                        LogRecorder.record(Ingredient.LOG_DISMISS_MEMBER,memberName);
                         alert = new Pair<>(false, succeedMsg);
                     }else{
                         String failedMsg = sysBuilder.build(Ingredient.DISMISS_MEMBER_FAILED.getFormat());
@@ -159,17 +161,20 @@ public class TeamFuncs {
     /* "업무조회" 파생 화면 -> 업무 목록 출력 */
     private static void showFilteredMembers(String[] inputs) {
         // [1] 조건들로 값 추출 List<String>
-        Stream<Member> browsing = Team.getInstance().controller.browse(inputs);
-        List<String> filteredMembers = browsing.map(m ->{
-            String tasks = m.getTasks().isEmpty() || m.getTasks() == null ?
-                    ""
-                    : m.getTasks().stream().map(Task::getName).collect(Collectors.joining(","));
-            return String.format("%s/%s/%s/%s/%s",m.getMid(),m.getName(),m.getAuth(),tasks,m.getTasks().size()+"");
-        }).toList();
-
-        // [2] 값과 함께 재료 메시지 제작
+        TeamController teamController = Team.getInstance().controller;
+        // [메모] browse()의 Stream은 DB 커서를 열고 있으므로 try-with-resources로 닫아줘야 함
+        List<Member> members;
+        try (Stream<Member> browsing = teamController.browse(inputs)) {
+            members = browsing.toList();
+        }
+        // [메모] 팀원마다 getTasks()를 부르지 않고, 조회된 팀원들의 담당 업무를 한 번에 불러옴
+        Map<String, Set<Task>> tasksByMember = teamController.getTasksOf(members);
+
+        // [2] 팀원과 담당 업무의 필드에서 바로 재료 메시지 제작 (중간 문자열 없이)
         MemberListMessageBuilder memberListMsgBuilder = MessageBuilderManager.memberList;
-        String messageIngredient = memberListMsgBuilder.build(Ingredient.MEMBER_LIST.getFormat(), filteredMembers);
+        StringBuilder listing = new StringBuilder(4096);
+        memberListMsgBuilder.appendMembers(listing, Ingredient.MEMBER_LIST.getFormat(), members, tasksByMember);
+        String messageIngredient = listing.toString();
 
         // [3] 최종 메시지 제작(UI+재료+system)
         UIMessageBuilder uiBuilder = MessageBuilderManager.ui;
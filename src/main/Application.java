@@ -1,9 +1,12 @@
 package main;
 
 import functions.HomeFunc;
+import model.ProjectStatistics;
 import repository.MakeConnection;
 import repository.MemberRepository;
 import repository.ProjectRepository;
+import utils.LogRecorder;
+import utils.event.EventBus;
 
 
 
@@ -12,7 +15,7 @@ import repository.ProjectRepository;
 // - 프로그램 실행부, 딸깍
 
 // [ 프로그램의 핵심 흐름 ]
-// - Application.main 실행 -> HomeFunc.start 호출 -> 사용자의 기능 선택 -> 선택된 기능의 Func 메서드 호출
+// - Application.main 실행 -> 이벤트 구독 등록 -> HomeFunc.start 호출 -> 사용자의 기능 선택 -> 선택된 기능의 Func 메서드 호출
 
 // [ Func 메서드들의 공통 흐름 ]
 // - Message 제작 및 출력 -> 사용자의 입력 -> 입력값 검증 -> 관련 controller들 호출해 CRUD 수행 -> return으로 HomeFunc 복귀
@@ -25,6 +28,11 @@ import repository.ProjectRepository;
 public class Application {
 
     public static void main(String[] args) {
+        // [1] 컨트롤러가 발행하는 이벤트의 구독자 등록 (더미 데이터 등록 등 첫 쓰기보다 먼저)
+        EventBus bus = EventBus.getInstance();
+        ProjectStatistics.getInstance().subscribeTo(bus);
+        LogRecorder.subscribeTo(bus);
+        // [2] 홈 화면 시작
         HomeFunc.start();
     }
 }
\ No newline at end of file
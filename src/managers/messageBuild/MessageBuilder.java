@@ -3,12 +3,27 @@ package managers.messageBuild;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 // [ MessageBuilder 클래스 설명 ]
 // - MessageBuilder는 MessageBuilder류 클래스들의 구현 기반을 마련하기 위한 추상 클래스입니다.
+// - 하위 클래스는 buildTo()에서 완성된 Message를 StringBuilder 뒤에 바로 이어 쓰고, build()는 이를 String으로 돌려줍니다.
+
+// [ 메모 ]
+// - 문자열을 + 로 이어 붙이면 조각이 늘어날수록 앞부분을 계속 다시 복사하므로, 모든 조각을 하나의 StringBuilder에 이어 씁니다.
+// - build() / integrate()가 쓰는 StringBuilder는 스레드마다 하나를 두고 재사용합니다. (KEEP_CAPACITY보다 커진 것은 버려 메모리를 붙잡지 않음)
+// - 목록처럼 큰 Message는 buildTo()로 호출자의 StringBuilder에 바로 쓰면, 중간 String 없이 이어 붙일 수 있슴다.
 
 public abstract class MessageBuilder {
-    public abstract String build(String format, List<String> ingredients);
+    private static final int KEEP_CAPACITY = 1 << 16;
+    private static final ThreadLocal<StringBuilder> scratch = new ThreadLocal<>();
+
+    /* format에 재료들을 채워 out 뒤에 이어 씀 */
+    public abstract void buildTo(StringBuilder out, String format, List<String> ingredients);
+
+    public String build(String format, List<String> ingredients) {
+        return render(out -> buildTo(out, format, ingredients));
+    }
 
     // [임시] 재료 없이 완성되는 Message 사례를 위해 build 메서드를 overload
     public abstract String build(String ingredient);
@@ -20,6 +35,37 @@ public abstract class MessageBuilder {
 
     // [임시] 제작된 Message들을 줄바꿈으로 이어진 하나의 Message로 결합하는 메서드
     public static String integrate(String... msgs) {
-        return Arrays.stream(msgs).reduce((acc, cur) -> acc + "\n" + cur).orElseGet(() -> "integrate 실패");
+        if (msgs.length == 0) {
+            return "integrate 실패";
+        }
+        return render(out -> integrateTo(out, msgs));
+    }
+
+    /* 제작된 Message들을 줄바꿈으로 이어 out 뒤에 씀 */
+    public static void integrateTo(StringBuilder out, String... msgs) {
+        for (int i = 0; i < msgs.length; i++) {
+            if (i > 0) {
+                out.append('\n');
+            }
+            out.append(msgs[i]);
+        }
+    }
+
+    /* 재사용 StringBuilder에 writer로 쓴 결과 (안에서 다시 render()를 불러도 새 StringBuilder를 쓰므로 안전) */
+    protected static String render(Consumer<StringBuilder> writer) {
+        StringBuilder out = scratch.get();
+        scratch.set(null);
+        if (out == null) {
+            out = new StringBuilder(1024);
+        }
+        try {
+            writer.accept(out);
+            return out.toString();
+        } finally {
+            if (out.capacity() <= KEEP_CAPACITY) {
+                out.setLength(0);
+                scratch.set(out);
+            }
+        }
     }
 }
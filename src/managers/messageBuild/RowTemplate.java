@@ -0,0 +1,80 @@
+package managers.messageBuild;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [ RowTemplate 클래스 설명 ]
+// - RowTemplate은 목록의 한 줄(행) 포맷을 "%s" 기준으로 미리 잘라둔 클래스임다.
+// - 목록 MessageBuilder는 행마다 String.format()으로 포맷을 다시 해석하지 않고, 잘라둔 글자 조각과 필드 값을 번갈아 StringBuilder에 이어 씁니다.
+
+// [ 예시 ]
+//   RowTemplate row = RowTemplate.of("No.%s [ %s ]", 2);
+//   row.literal(out, 0); out.append(num);
+//   row.literal(out, 1); out.append(name);
+//   row.literal(out, 2);
+
+// [ 메모 ]
+// - 포맷엔 "%s"와 "%%"만 쓸 수 있슴다. (그 밖의 지정자나 "%s" 개수가 어긋나면 IllegalArgumentException)
+// - 같은 포맷은 한 번만 잘라서 보관합니다. (포맷은 Ingredient 등의 상수라 종류가 몇 개 안 됨)
+
+public final class RowTemplate {
+    private static final Map<String, RowTemplate> compiled = new ConcurrentHashMap<>();
+
+    private final String[] literals;
+
+    private RowTemplate(String[] literals) {
+        this.literals = literals;
+    }
+
+    /* fields개의 "%s"를 가진 포맷 */
+    public static RowTemplate of(String format, int fields) {
+        RowTemplate template = compiled.computeIfAbsent(format, RowTemplate::compile);
+        if (template.literals.length - 1 != fields) {
+            throw new IllegalArgumentException("포맷의 %s 개수가 " + fields + "개가 아닙니다 : " + format);
+        }
+        return template;
+    }
+
+    /* i번째 필드 앞의 글자 조각 (i == 필드 수이면 마지막 조각) */
+    public void literal(StringBuilder out, int i) {
+        out.append(literals[i]);
+    }
+
+    /* 날짜를 yyyyMMdd로 (StringDateConverter.convertFrom()과 같은 모양, 중간 String 없이) */
+    public static void appendDate(StringBuilder out, LocalDate date) {
+        out.append(date.getYear());
+        appendTwoDigits(out, date.getMonthValue());
+        appendTwoDigits(out, date.getDayOfMonth());
+    }
+
+    private static void appendTwoDigits(StringBuilder out, int value) {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static RowTemplate compile(String format) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            char next = i + 1 < format.length() ? format.charAt(i + 1) : 0;
+            if (next == 's') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+            } else if (next == '%') {
+                literal.append('%');
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 포맷 지정자입니다 : " + format);
+            }
+            i++;
+        }
+        literals.add(literal.toString());
+        return new RowTemplate(literals.toArray(String[]::new));
+    }
+}
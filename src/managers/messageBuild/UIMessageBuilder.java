@@ -1,5 +1,6 @@
 package managers.messageBuild;
 
+import java.util.Formatter;
 import java.util.List;
 
 // [ SystemMessageBuilder 클래스 설명 ]
@@ -10,8 +11,8 @@ import java.util.List;
 
 public class UIMessageBuilder extends MessageBuilder {
     @Override
-    public String build(String format, List<String> ingredients) {
-        return String.format(format, ingredients.toArray());
+    public void buildTo(StringBuilder out, String format, List<String> ingredients) {
+        new Formatter(out).format(format, ingredients.toArray());
     }
 
     @Override
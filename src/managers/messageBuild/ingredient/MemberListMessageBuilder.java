@@ -2,16 +2,22 @@ package managers.messageBuild.ingredient;
 
 import configs.message.Ingredient;
 import managers.messageBuild.MessageBuilder;
+import managers.messageBuild.RowTemplate;
+import model.project.Task;
+import model.team.Member;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Set;
 
 // [ MemberListMessageBuilder 클래스 설명 ]
 // - MemberListMessageBuilder는 "팀원조회" 기능에서 각 팀원정보를 표현할 Message 제작용 클래스입니다.
 
 // [ 메모 ]
 // - Build의 중간 단계에 해당하는 클래스입니다.
-// - 제작된 MemberList들은 MessageBuilder 공통 메서드인 integrate를 통해 서로 병합됩니다.
+// - 각 팀원의 Message는 따로 String으로 만들지 않고, 하나의 StringBuilder에 줄바꿈으로 이어 씁니다.
+// - appendMembers()는 Member와 담당 업무의 필드를 RowTemplate의 조각 사이에 바로 써서, 중간 문자열 / split()을 거치지 않슴다. (이름에 "/"가 있어도 그대로)
 
 // [ 예시 ]
 //   = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = =
@@ -28,20 +34,44 @@ public class MemberListMessageBuilder extends MessageBuilder {
 //            """;
 
     @Override
-    public String build(String format, List<String> ingredients) {
-        // [메모] 람다에서도 넘버링하기 위한 변수 선언
-        AtomicInteger num = new AtomicInteger(0);
-
-        // [설명]
-        // - ingredients는 각 Tasks들의 정보를 요약한 String들의 리스트
-        // - map을 통해 각 정보들을 순회하며 TaskList의 포맷에 맞게 변환
-        // - reduce를 통해 변환한 문자열들을 이어 붙임
-        // - 적절한 재료가 주어지지 않았을 경우 실패 케이스 문자열 반환
-        return ingredients.stream().map(ing -> {
-            String[] memberInfo = ing.split("/");
-            memberInfo[0] = num.incrementAndGet() + "";
-            return String.format(format, memberInfo);
-        }).reduce(MessageBuilder::integrate).orElseGet(Ingredient.MEMBER_LIST_FAILED::getFormat);
+    public void buildTo(StringBuilder out, String format, List<String> ingredients) {
+        // [메모] 팀원 정보를 "/"로 이은 문자열은 이름에 "/"가 있으면 깨지므로 받지 않음 -> appendMembers()로 제작
+        throw new UnsupportedOperationException("appendMembers()로 제작해야 함");
+    }
+
+    /* 팀원들을 하나씩 필드에서 바로 out 뒤에 이어 씀 (tasksByMember : 팀원ID -> 담당 업무, 없는 팀원은 담당 업무 없음) */
+    public void appendMembers(StringBuilder out, String format, Collection<Member> members, Map<String, Set<Task>> tasksByMember) {
+        if (members.isEmpty()) {
+            out.append(Ingredient.MEMBER_LIST_FAILED.getFormat());
+            return;
+        }
+        // [메모] 번호 / 이름 / 권한 / 담당 업무명들 / 담당 업무 수
+        RowTemplate row = RowTemplate.of(format, 5);
+        int num = 0;
+        for (Member member : members) {
+            if (num > 0) {
+                out.append('\n');
+            }
+            Set<Task> memberTasks = tasksByMember.getOrDefault(member.getMid(), Set.of());
+            row.literal(out, 0);
+            out.append(++num);
+            row.literal(out, 1);
+            out.append(member.getName());
+            row.literal(out, 2);
+            out.append(member.getAuth());
+            row.literal(out, 3);
+            boolean first = true;
+            for (Task task : memberTasks) {
+                if (!first) {
+                    out.append(',');
+                }
+                out.append(task.getName());
+                first = false;
+            }
+            row.literal(out, 4);
+            out.append(memberTasks.size());
+            row.literal(out, 5);
+        }
     }
 
     @Override
@@ -2,6 +2,7 @@ package managers.messageBuild.ingredient;
 
 import managers.messageBuild.MessageBuilder;
 
+import java.util.Formatter;
 import java.util.List;
 
 // [ OverviewMessageBuilder 클래스 설명 ]
@@ -13,8 +14,8 @@ import java.util.List;
 
 public class OverviewMessageBuilder extends MessageBuilder {
     @Override
-    public String build(String format, List<String> ingredients) {
-        return String.format(format,ingredients.toArray());
+    public void buildTo(StringBuilder out, String format, List<String> ingredients) {
+        new Formatter(out).format(format, ingredients.toArray());
     }
 
     @Override
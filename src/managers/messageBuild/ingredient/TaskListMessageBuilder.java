@@ -2,16 +2,18 @@ package managers.messageBuild.ingredient;
 
 import configs.message.Ingredient;
 import managers.messageBuild.MessageBuilder;
+import managers.messageBuild.RowTemplate;
+import model.project.Task;
 
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 // [ TaskListMessageBuilder 클래스 설명 ]
 // - TaskListMessageBuilder는 "업무조회" 기능에서 각 업무정보를 표현할 Message 제작용 클래스입니다.
 
 // [ 메모 ]
 // - Build의 중간 단계에 해당하는 클래스입니다.
-// - 제작된 TaskList들은 MessageBuilder 공통 메서드인 integrate를 통해 서로 병합됩니다.
+// - 각 업무의 Message는 따로 String으로 만들지 않고, 하나의 StringBuilder에 줄바꿈으로 이어 씁니다.
+// - appendTasks()는 Task의 필드를 RowTemplate의 조각 사이에 바로 써서, toString() / split()을 거치지 않슴다. (업무명에 "/"가 있어도 그대로)
 
 // [ 예시 ]
 //   = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = =
@@ -26,20 +28,43 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class TaskListMessageBuilder extends MessageBuilder {
     @Override
-    public String build(String format, List<String> ingredients) {
-        // [메모] 람다에서도 넘버링하기 위한 변수 선언
-        AtomicInteger num = new AtomicInteger(0);
-
-        // [설명] 
-        // - ingredients는 각 Tasks들의 정보를 요약한 String들의 리스트
-        // - map을 통해 각 정보들을 순회하며 TaskList의 포맷에 맞게 변환
-        // - reduce를 통해 변환한 문자열들을 이어 붙임
-        // - 적절한 재료가 주어지지 않았을 경우 실패 케이스 문자열 반환
-        return ingredients.stream().map(ing -> {
-            String[] taskInfo = ing.split("/");
-            taskInfo[0] = num.incrementAndGet() + "";
-            return String.format(format, taskInfo);
-        }).reduce(MessageBuilder::integrate).orElseGet(Ingredient.TASK_LIST_FAILED::getFormat);
+    public void buildTo(StringBuilder out, String format, List<String> ingredients) {
+        // [메모] 업무 정보를 "/"로 이은 문자열은 이름에 "/"가 있으면 깨지므로 받지 않음 -> appendTasks()로 제작
+        throw new UnsupportedOperationException("appendTasks()로 제작해야 함");
+    }
+
+    /* Task들을 하나씩 필드에서 바로 out 뒤에 이어 씀 (tasks는 DB 커서 Stream의 iterator여도 됨) */
+    public void appendTasks(StringBuilder out, String format, Iterable<Task> tasks) {
+        // [메모] 번호 / 업무명 / 유형 / 상태 / 담당자 / 등록일 / 마감일
+        RowTemplate row = RowTemplate.of(format, 7);
+        int num = 0;
+        for (Task task : tasks) {
+            if (num > 0) {
+                out.append('\n');
+            }
+            row.literal(out, 0);
+            out.append(++num);
+            row.literal(out, 1);
+            out.append(task.getName());
+            row.literal(out, 2);
+            out.append(task.getType());
+            row.literal(out, 3);
+            out.append(task.getStatus());
+            row.literal(out, 4);
+            out.append(task.getAssignee() != null ? task.getAssignee().getName() : "미정");
+            row.literal(out, 5);
+            RowTemplate.appendDate(out, task.getCreatedAt());
+            row.literal(out, 6);
+            if (task.getDueTo() != null) {
+                RowTemplate.appendDate(out, task.getDueTo());
+            } else {
+                out.append("미정");
+            }
+            row.literal(out, 7);
+        }
+        if (num == 0) {
+            out.append(Ingredient.TASK_LIST_FAILED.getFormat());
+        }
     }
 
     @Override
@@ -0,0 +1,138 @@
+package model;
+
+import configs.message.Ingredient;
+import configs.project.TaskStatus;
+import model.event.AssignmentChanged;
+import model.event.MemberDismissed;
+import model.event.MemberInvited;
+import model.event.TaskCreated;
+import model.event.TaskRemoved;
+import model.event.TaskUpdated;
+import repository.MemberRepository;
+import repository.ProjectRepository;
+import repository.ProjectTeamRepository;
+import utils.LogRecorder;
+import utils.event.EventBus;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// [ ProjectStatistics 클래스 설명 ]
+// - ProjectStatistics는 홈화면 overview에 쓰이는 집계(상태별 업무 수, 전체 팀원 수, 담당업무 보유 팀원 수)를 메모리에 들고 있는 클래스임다.
+// - ProjectController / TeamController가 등록/수정/삭제를 DB에 반영(commit)한 뒤 발행하는 이벤트를 동기로 구독해서 바뀐 만큼만 더하고 빼므로,
+//   화면을 그릴 때마다 DB를 다시 집계하지 않습니다.
+// - 처음 만들어질 때(=프로그램 시작 시 subscribeTo() 할 때) 저장소 기준으로 한 번 맞추고, 이후엔 reconcile()로 언제든 다시 맞출 수 있슴다.
+
+// [ 메모 ]
+// - 담당업무 보유 팀원 수는 "팀원ID -> 담당 업무 수" Map의 크기입니다. (마지막 업무가 빠지면 키도 지워서 크기가 곧 보유자 수)
+// - 각 값은 따로따로 원자적으로 바뀌므로, 여러 스레드가 동시에 쓰는 순간엔 값들 사이가 잠깐 어긋나 보일 수 있슴다. (다음 화면에선 맞음)
+// - 컨트롤러를 거치지 않고 저장소를 직접 바꿨다면 reconcile()을 불러 다시 맞춰야 합니다.
+
+public class ProjectStatistics {
+    private static final ProjectStatistics instance = new ProjectStatistics();
+    public static ProjectStatistics getInstance() {
+        return instance;
+    }
+
+    private final EnumMap<TaskStatus, AtomicInteger> tasksByStatus = new EnumMap<>(TaskStatus.class);
+    private final AtomicInteger members = new AtomicInteger();
+    private final Map<String, Integer> tasksByMember = new ConcurrentHashMap<>();
+    // [메모] reconcile()로 값을 교체한 횟수 (이벤트 없이 값이 바뀌는 유일한 경우라, 화면 캐시가 함께 확인함)
+    private final AtomicLong reconciled = new AtomicLong();
+
+    private ProjectStatistics() {
+        for (TaskStatus status : TaskStatus.values()) {
+            tasksByStatus.put(status, new AtomicInteger());
+        }
+        reconcile();
+    }
+
+    /* 저장소를 다시 집계해서 값들을 맞춤 (실패하면 로그를 남기고 false, 기존 값은 그대로) */
+    public synchronized boolean reconcile() {
+        try {
+            // [1] 새 값들을 모두 읽어온 뒤
+            EnumMap<TaskStatus, Integer> counts = ProjectRepository.getInstance().countByStatus();
+            int memberCount = MemberRepository.getInstance().count();
+            Map<String, Integer> assignments = ProjectTeamRepository.getInstance().countTasksByMember();
+            // [2] 한꺼번에 교체
+            tasksByStatus.forEach((status, count) -> count.set(counts.getOrDefault(status, 0)));
+            members.set(memberCount);
+            tasksByMember.clear();
+            tasksByMember.putAll(assignments);
+            reconciled.incrementAndGet();
+            return true;
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"통계 다시 집계");
+            return false;
+        }
+    }
+
+    // [ 변경 반영 ]
+
+    /* 이벤트 구독 (발행한 스레드에서 바로 반영되므로, 다음 화면엔 이미 맞는 값이 보임) */
+    public void subscribeTo(EventBus bus) {
+        bus.subscribe(TaskCreated.class, event -> tasksByStatus.get(event.status()).incrementAndGet());
+        bus.subscribe(TaskUpdated.class, this::taskUpdated);
+        bus.subscribe(TaskRemoved.class, this::taskRemoved);
+        bus.subscribe(AssignmentChanged.class, this::assigned);
+        bus.subscribe(MemberInvited.class, event -> members.incrementAndGet());
+        bus.subscribe(MemberDismissed.class, this::memberDismissed);
+    }
+
+    private void taskUpdated(TaskUpdated event) {
+        if (event.before() != event.after()) {
+            tasksByStatus.get(event.before()).decrementAndGet();
+            tasksByStatus.get(event.after()).incrementAndGet();
+        }
+    }
+
+    // [메모] 삭제와 함께 배정이 해제된 팀원들의 담당 업무 수도 줄임
+    private void taskRemoved(TaskRemoved event) {
+        tasksByStatus.get(event.status()).decrementAndGet();
+        for (String mid : event.memberIds()) {
+            tasksByMember.computeIfPresent(mid, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private void assigned(AssignmentChanged event) {
+        for (ProjectTeam link : event.linked()) {
+            tasksByMember.merge(link.getMemberID(), 1, Integer::sum);
+        }
+    }
+
+    // [메모] 팀원의 배정도 함께 해제되므로 담당 업무 수도 지움
+    private void memberDismissed(MemberDismissed event) {
+        members.decrementAndGet();
+        tasksByMember.remove(event.mid());
+    }
+
+    // [ 조회 ]
+
+    public long reconciledCount() {
+        return reconciled.get();
+    }
+
+    public int countOf(TaskStatus status) {
+        return tasksByStatus.get(status).get();
+    }
+
+    public int totalTasks() {
+        int total = 0;
+        for (AtomicInteger count : tasksByStatus.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    public int memberCount() {
+        return members.get();
+    }
+
+    public int assignedMemberCount() {
+        return tasksByMember.size();
+    }
+}
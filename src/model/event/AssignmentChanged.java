@@ -0,0 +1,12 @@
+package model.event;
+
+import model.ProjectTeam;
+
+import java.util.List;
+
+/* 업무 - 팀원 배정 추가 (linked는 새로 연결된 쌍들) */
+public record AssignmentChanged(List<ProjectTeam> linked) implements DomainEvent {
+    public AssignmentChanged {
+        linked = List.copyOf(linked);
+    }
+}
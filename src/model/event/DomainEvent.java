@@ -0,0 +1,13 @@
+package model.event;
+
+// [ DomainEvent 인터페이스 설명 ]
+// - ProjectController / TeamController가 등록/수정/삭제를 DB에 반영한 뒤 EventBus로 발행하는 이벤트들의 공통 타입임다.
+// - 이벤트는 발행 시점의 값을 그대로 담은 record라서, 다른 스레드의 구독자가 나중에 읽어도 바뀌지 않슴다.
+
+// [ 메모 ]
+// - 새 이벤트를 추가하면 permits 목록에도 넣어야 합니다.
+// - Task / Member 인스턴스는 캐시에 보관되어 나중에 수정될 수 있으므로, 이벤트엔 ID와 필요한 값만 담습니다.
+
+public sealed interface DomainEvent
+        permits TaskCreated, TaskUpdated, TaskRemoved, MemberInvited, MemberUpdated, MemberDismissed, AssignmentChanged {
+}
@@ -0,0 +1,5 @@
+package model.event;
+
+/* 팀원 해임 (해당 팀원의 배정도 모두 해제됨) */
+public record MemberDismissed(String mid, String name) implements DomainEvent {
+}
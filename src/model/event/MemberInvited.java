@@ -0,0 +1,5 @@
+package model.event;
+
+/* 팀원 초대 */
+public record MemberInvited(String mid, String name) implements DomainEvent {
+}
@@ -0,0 +1,5 @@
+package model.event;
+
+/* 팀원 정보 수정 */
+public record MemberUpdated(String mid, String name) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package model.event;
+
+import configs.project.TaskStatus;
+
+/* 업무 등록 */
+public record TaskCreated(String tid, String name, TaskStatus status) implements DomainEvent {
+}
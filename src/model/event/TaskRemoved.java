@@ -0,0 +1,12 @@
+package model.event;
+
+import configs.project.TaskStatus;
+
+import java.util.Set;
+
+/* 업무 삭제 (memberIds는 삭제와 함께 배정이 해제된 팀원ID들) */
+public record TaskRemoved(String tid, String name, TaskStatus status, Set<String> memberIds) implements DomainEvent {
+    public TaskRemoved {
+        memberIds = Set.copyOf(memberIds);
+    }
+}
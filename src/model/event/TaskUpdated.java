@@ -0,0 +1,7 @@
+package model.event;
+
+import configs.project.TaskStatus;
+
+/* 업무 수정 (before / after는 수정 전후의 상태) */
+public record TaskUpdated(String tid, String name, TaskStatus before, TaskStatus after) implements DomainEvent {
+}
@@ -1,13 +1,13 @@
 package model.project;
 
+import configs.repository.DBConfig;
 import controller.controllers.ProjectController;
-
-import java.util.HashMap;
-import java.util.Map;
+import utils.cache.EntityCache;
 
 public class Project {
     private static final Project _instance = new Project();
-    private Map<String, Task> tasks = new HashMap<>();
+    // [메모] TID -> Task 캐시, Controller가 DB 조회 전에 먼저 확인하고 DB 저장 후에 갱신함
+    private EntityCache<String, Task> tasks = new EntityCache<>(DBConfig.ENTITY_CACHE_SIZE.getInt(), Task::getTid);
     public ProjectController controller = new ProjectController(tasks);
 
     public static Project getInstance() {
@@ -1,13 +1,13 @@
 package model.team;
 
+import configs.repository.DBConfig;
 import controller.controllers.TeamController;
-
-import java.util.HashMap;
-import java.util.Map;
+import utils.cache.EntityCache;
 
 public class Team {
     private static final Team _instance = new Team();
-    private Map<String, Member> members = new HashMap<>();
+    // [메모] MID -> Member 캐시, Controller가 DB 조회 전에 먼저 확인하고 DB 저장 후에 갱신함
+    private EntityCache<String, Member> members = new EntityCache<>(DBConfig.ENTITY_CACHE_SIZE.getInt(), Member::getMid);
     public TeamController controller = new TeamController(members);
     private Member leader;
 
@@ -0,0 +1,62 @@
+package repository;
+
+import configs.repository.DBConfig;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// [ IdAllocator 클래스 설명 ]
+// - IdAllocator는 신규 업무 / 팀원의 ID를 발급하는 클래스임다. (hi/lo 방식)
+// - IdSequenceRepository에서 DBConfig.ID_BLOCK_SIZE개짜리 번호 구간(block)을 한 번에 예약해두고, 그 안에서 하나씩 나눠줍니다.
+//   -> 구간 하나를 다 쓸 때까지는 저장소를 거치지 않으므로, 등록마다 ID를 위한 왕복이 없슴다.
+
+// [ 예시 ]
+//   String tid = IdAllocator.TASKS.next();    // "t01", "t02", ... "t1024", ...
+
+// [ 메모 ]
+// - 구간 안에서의 발급은 AtomicLong.getAndIncrement() 하나라 lock 없이 여러 스레드가 동시에 받아갈 수 있슴다.
+// - 구간을 다 쓰면 한 스레드만 새 구간을 예약하고, 그 사이 다른 스레드는 잠깐 기다렸다가 새 구간에서 받아갑니다.
+// - 종료 시 쓰지 않은 번호는 돌려받지 않으므로 재시작 후 ID가 건너뛸 수 있지만, 겹치지는 않슴다.
+// - 새 구간 예약(JDBC)은 Pool에서 Connection을 하나 더 빌리므로, UnitOfWork 안에서 next()를 부르면 안 됩니다.
+//   -> Pool 크기만큼의 스레드가 각자 Connection을 쥔 채 예약을 기다리면, 모두 acquire timeout으로 실패함
+//   -> ID를 먼저 발급받고 나서 UnitOfWork.begin() 할 것
+
+public class IdAllocator {
+    public static final IdAllocator TASKS = new IdAllocator(IdSequence.TASK);
+    public static final IdAllocator MEMBERS = new IdAllocator(IdSequence.MEMBER);
+
+    // [메모] 예약한 구간 하나 (cursor가 end에 닿으면 다 쓴 것)
+    private record Block(AtomicLong cursor, long end) {}
+
+    private final IdSequence sequence;
+    private final int blockSize = DBConfig.ID_BLOCK_SIZE.getInt();
+    private final ReentrantLock refill = new ReentrantLock();
+    private volatile Block block = new Block(new AtomicLong(), 0);
+
+    private IdAllocator(IdSequence sequence) {
+        this.sequence = sequence;
+    }
+
+    /* 다음 ID 발급 */
+    public String next() throws SQLException {
+        while (true) {
+            // [1] 현재 구간에서 번호 하나 받기
+            Block current = block;
+            long value = current.cursor().getAndIncrement();
+            if (value < current.end()) {
+                return sequence.format(value);
+            }
+            // [2] 다 썼다면 새 구간 예약 (다른 스레드가 이미 바꿔뒀다면 그 구간으로 재시도)
+            refill.lock();
+            try {
+                if (block == current) {
+                    long first = IdSequenceRepository.getInstance().reserve(sequence, blockSize);
+                    block = new Block(new AtomicLong(first), first + blockSize);
+                }
+            } finally {
+                refill.unlock();
+            }
+        }
+    }
+}
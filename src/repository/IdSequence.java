@@ -0,0 +1,43 @@
+package repository;
+
+// [ IdSequence 개요 ]
+// - 업무ID / 팀원ID 순번의 종류를 담당하기 위한 enum임다.
+// - 순번 이름(name)은 id_sequence 테이블의 행 이름으로, 접두어(prefix)는 ID 문자열의 첫 글자로 쓰입니다.
+//   ex) TASK의 순번 7 -> "t07", MEMBER의 순번 1234 -> "m1234"
+
+// [ 메모 ]
+// - 순번이 10 미만이면 기존 ID와 같게 두 자리로 맞춥니다. (t01 ~ t09)
+
+public enum IdSequence {
+    TASK("task", "t"),
+    MEMBER("member", "m");
+
+    private final String name;
+    private final String prefix;
+
+    private IdSequence(String name, String prefix) {
+        this.name = name;
+        this.prefix = prefix;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /* 순번 -> ID 문자열 */
+    public String format(long value) {
+        return value < 10 ? prefix + "0" + value : prefix + value;
+    }
+
+    /* ID 문자열 -> 순번 (형식이 다른 ID는 0) */
+    public long parse(String id) {
+        if (id == null || !id.startsWith(prefix)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(id.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
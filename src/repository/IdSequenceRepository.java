@@ -0,0 +1,22 @@
+package repository;
+
+import configs.repository.Storage;
+import repository.jdbc.JdbcIdSequenceRepository;
+
+import java.sql.SQLException;
+
+// [ IdSequenceRepository 인터페이스 설명 ]
+// - ID 순번 저장소의 공통 규약입니다. IdAllocator가 번호 구간(block)을 예약할 때만 사용합니다.
+// - getInstance()는 Storage.selected()가 JDBC라면 id_sequence 테이블 구현체를, 그 외엔 프로세스 안의 순번 구현체를 돌려줍니다.
+
+public interface IdSequenceRepository {
+    static IdSequenceRepository getInstance() {
+        return switch (Storage.selected()) {
+            case JDBC -> JdbcIdSequenceRepository.getInstance();
+            default -> LocalIdSequenceRepository.getInstance();
+        };
+    }
+
+    /* sequence에서 size개의 번호를 예약하고 첫 번호를 반환 (반환값 ~ 반환값 + size - 1 구간은 이 호출만의 것) */
+    public long reserve(IdSequence sequence, int size) throws SQLException;
+}
@@ -0,0 +1,52 @@
+package repository;
+
+import model.project.Task;
+import model.team.Member;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// [ LocalIdSequenceRepository 클래스 설명 ]
+// - 메모리 / 파일 저장소에서 쓰는 IdSequenceRepository 구현체입니다. (순번을 프로세스 안의 AtomicLong으로 보관)
+// - 직접 부르지 않고 IdSequenceRepository.getInstance()를 통해 사용합니다.
+
+// [ 메모 ]
+// - 순번은 따로 저장하지 않고, 처음 예약할 때 저장소의 가장 큰 ID를 찾아 그 다음 번호부터 시작합니다.
+//   -> WAL / 파일로 복구된 데이터가 있어도 재시작 후 ID가 겹치지 않슴다.
+// - 저장소를 한 프로세스만 쓰므로, 시작 번호를 정한 뒤의 예약은 getAndAdd() 한 번입니다.
+
+class LocalIdSequenceRepository implements IdSequenceRepository {
+    private static final LocalIdSequenceRepository instance = new LocalIdSequenceRepository();
+    static LocalIdSequenceRepository getInstance() {
+        return instance;
+    }
+
+    private final EnumMap<IdSequence, AtomicLong> sequences = new EnumMap<>(IdSequence.class);
+
+    private LocalIdSequenceRepository() {}
+
+    @Override
+    public long reserve(IdSequence sequence, int size) throws SQLException {
+        return seeded(sequence).getAndAdd(size);
+    }
+
+    private synchronized AtomicLong seeded(IdSequence sequence) throws SQLException {
+        AtomicLong next = sequences.get(sequence);
+        if (next == null) {
+            next = new AtomicLong(maxOf(sequence) + 1);
+            sequences.put(sequence, next);
+        }
+        return next;
+    }
+
+    /* 저장소에 있는 ID 중 가장 큰 순번 (없으면 0) */
+    private static long maxOf(IdSequence sequence) throws SQLException {
+        try (Stream<String> ids = sequence == IdSequence.TASK
+                ? ProjectRepository.getInstance().streamAll(0).map(Task::getTid)
+                : MemberRepository.getInstance().streamAll(0).map(Member::getMid)) {
+            return ids.mapToLong(sequence::parse).max().orElse(0);
+        }
+    }
+}
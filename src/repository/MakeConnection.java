@@ -1,24 +1,48 @@
 package repository;
 
+import configs.repository.DBConfig;
+import repository.pool.ConnectionPool;
+
+import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
+// [ MakeConnection 클래스 설명 ]
+// - MakeConnection은 Repository들이 Connection을 얻어가는 단일 창구입니다.
+// - 매 호출마다 DriverManager로 새로 연결하지 않고, DBConfig 설정으로 만든 ConnectionPool에서 빌려줍니다.
+// - 빌려간 Connection은 기존처럼 close() 하면 Pool에 반납됩니다.
+// - 현재 스레드에서 UnitOfWork가 진행 중이라면 새로 빌리지 않고, 그 작업에 묶인 Connection을 돌려줍니다.
+
 public class MakeConnection {
+    private static final ConnectionPool dataSource = new ConnectionPool(
+            DBConfig.DRIVER.getValue(),
+            DBConfig.URL.getValue(),
+            DBConfig.USER.getValue(),
+            DBConfig.PASSWORD.getValue(),
+            DBConfig.POOL_SIZE.getInt(),
+            DBConfig.POOL_ACQUIRE_TIMEOUT_MS.getLong(),
+            DBConfig.POOL_LEAK_THRESHOLD_MS.getLong(),
+            DBConfig.POOL_STATEMENT_CACHE_SIZE.getInt());
+
     public static Connection getConnection() {
-        String url = "jdbc:mysql://localhost:3306/projecttool?serverTimezone=Asia/Seoul";
+        Connection bound = UnitOfWork.boundConnection();
+        if (bound != null) {
+            return bound;
+        }
         Connection conn = null;
-
-        // 1. 드라이버 로드
         try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            // 2. 데이터베이스 연결
-            conn = DriverManager.getConnection(url, "root", "1111");
-        } catch (ClassNotFoundException e) {
-            System.out.println("JDBC 드라이버를 찾지 못했습니다....");
+            conn = dataSource.getConnection();
         } catch (SQLException e) {
             System.out.println("데이터베이스 연결 실패 ...");
         }
         return conn;
     }
+
+    public static DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public static ConnectionPool getPool() {
+        return dataSource;
+    }
 }
@@ -1,70 +1,59 @@
 package repository;
 
-import configs.message.Ingredient;
+import configs.repository.Storage;
+import model.ProjectTeam;
 import model.project.Task;
-import utils.LogRecorder;
+import repository.file.FileProjectTeamRepository;
+import repository.jdbc.JdbcProjectTeamRepository;
+import repository.memory.MemoryProjectTeamRepository;
+import utils.Pair;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
-public class ProjectTeamRepository {
-    private static final ProjectTeamRepository instance = new ProjectTeamRepository();
-    private ProjectTeamRepository() {}
-    public static ProjectTeamRepository getInstance() { return instance; }
-
-    public void addMemberToProject(String projectId, String memberId) throws SQLException {
-        String sql = "INSERT INTO project_team (pid, mid) VALUES (?, ?)";
-        try (Connection conn = MakeConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, projectId);
-            pstmt.setString(2, memberId);
-            pstmt.executeUpdate();
-        }
+// [ ProjectTeamRepository 인터페이스 설명 ]
+// - 업무-팀원 배정(project_team) 저장소의 공통 규약입니다.
+// - getInstance()는 Storage.selected()에 따라 JDBC(MySQL), 메모리, 파일 구현체 중 하나를 돌려줍니다.
+
+public interface ProjectTeamRepository {
+    static ProjectTeamRepository getInstance() {
+        return switch (Storage.selected()) {
+            case MEMORY -> MemoryProjectTeamRepository.getInstance();
+            case FILE -> FileProjectTeamRepository.getInstance();
+            default -> JdbcProjectTeamRepository.getInstance();
+        };
     }
 
-    public void removeMemberFromProject(String projectId, String memberId) throws SQLException {
-        String sql = "DELETE FROM project_team WHERE pid = ? AND mid = ?";
-        try (Connection conn = MakeConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, projectId);
-            pstmt.setString(2, memberId);
-            pstmt.executeUpdate();
-        }
-    }
-    public Set<Task> findProjectbyMember(String memberId) throws SQLException {
-        String sql = "SELECT * FROM project_team WHERE mid = ?";
-        Set<Task> tasks = new HashSet<>();
-        try (Connection conn = MakeConnection.getConnection();
-        PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, memberId);
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                String taskID  = rs.getString("pid");
-                Task task = ProjectRepository.getInstance().findById(taskID);
-                tasks.add(task);
-            }
-        }
-        return tasks;
-    }
+    public void addMemberToProject(String projectId, String memberId) throws SQLException;
 
-    public boolean exists(String projectId, String memberId) {
-        String sql = "SELECT * FROM project_team WHERE pid = ? AND mid = ?";
-        try (Connection conn = MakeConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-            pstmt.setString(1, projectId);
-            pstmt.setString(2, memberId);
-            return rs.next();
+    /* (업무ID, 팀원ID) 쌍들을 한 번에 연결 */
+    public void addMembersToProjects(Collection<ProjectTeam> links) throws SQLException;
 
-        } catch (SQLException e) {
-            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"존재 검사");
-            return false;
-        }
-    }
+    public void removeMemberFromProject(String projectId, String memberId) throws SQLException;
 
-}
+    /* (업무ID, 팀원ID) 쌍들의 연결을 한 번에 해제 */
+    public void removeMembersFromProjects(Collection<ProjectTeam> links) throws SQLException;
+
+    /* 업무 하나에 배정된 팀원ID들 */
+    public Set<String> findMemberIdsOf(String projectId) throws SQLException;
 
+    /* 팀원 한 명에게 배정된 업무ID들 */
+    public Set<String> findProjectIdsOf(String memberId) throws SQLException;
+
+    /* 팀원 한 명의 담당 업무들 */
+    public Set<Task> findProjectbyMember(String memberId) throws SQLException;
+
+    /* 여러 팀원의 담당 업무들 (팀원ID -> 담당 업무 Set, 담당 업무가 없는 팀원은 빈 Set) */
+    public Map<String, Set<Task>> findProjectsByMembers(Collection<String> memberIds) throws SQLException;
+
+    /* (담당업무 보유 팀원 수, 전체 팀원 수) */
+    public Pair<Integer, Integer> countAssignment() throws SQLException;
+
+    /* 팀원별 담당 업무 수 (담당 업무가 없는 팀원은 빠짐) */
+    public Map<String, Integer> countTasksByMember() throws SQLException;
+
+    /* 존재 검사 (오류 시 로그를 남기고 false) */
+    public boolean exists(String projectId, String memberId);
+}
@@ -2,7 +2,9 @@ package repository;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface Repository<T,ID> {
     public void save(T entity) throws SQLException;
@@ -12,4 +14,15 @@ public interface Repository<T,ID> {
     public Collection<T> findAll() throws SQLException;
     public boolean existsById(ID id) throws SQLException;
     public int count() throws SQLException;
+
+    // [ 일괄 처리 ] 하나의 Connection, 하나의 트랜잭션 안에서 JDBC batch로 처리
+    public void saveAll(Collection<T> entities) throws SQLException;
+    public void updateAll(Collection<T> entities) throws SQLException;
+    public void deleteAllById(Collection<ID> ids) throws SQLException;
+
+    // [ 대량 조회 ] 전체를 List로 모으지 않고 일정한 메모리로 읽기
+    // - streamAll : fetchSize 행씩 받아오는 Stream (다 쓴 뒤 close() 필수, try-with-resources 권장)
+    // - findPage  : afterId 다음 ID부터 limit개 (afterId가 null이면 처음부터), 마지막 행의 ID를 다음 호출의 afterId로
+    public Stream<T> streamAll(int fetchSize) throws SQLException;
+    public List<T> findPage(ID afterId, int limit) throws SQLException;
 }
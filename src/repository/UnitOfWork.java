@@ -0,0 +1,230 @@
+package repository;
+
+import configs.repository.Storage;
+import repository.query.Binder;
+import repository.query.QueryExecutor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// [ UnitOfWork 클래스 설명 ]
+// - UnitOfWork는 Controller의 작업 하나(업무 등록, 팀원 수정 등)를 하나의 Connection, 하나의 트랜잭션으로 묶는 클래스임다.
+// - begin()으로 시작하면 현재 스레드에 Connection이 묶여, 그 안의 Repository 호출은 모두 같은 Connection을 씁니다.
+// - 그 사이의 INSERT / UPDATE / DELETE는 바로 실행되지 않고 쌓였다가, commit() 때 batch로 한 번에 전송됩니다.
+// - commit() 없이 close() 되면(중간에 예외가 나면) 쌓인 쓰기는 버려지고 rollback 됩니다.
+
+// [ 예시 ]
+//   try (UnitOfWork work = UnitOfWork.begin()) {
+//       ProjectRepository.getInstance().save(task);                     // -> 쌓임
+//       ProjectTeamRepository.getInstance().addMembersToProjects(links); // -> 쌓임
+//       work.commit();                                                   // -> batch 전송 후 commit
+//   }
+
+// [ 메모 ]
+// - 조회(SELECT)는 쌓이지 않고 즉시 실행되므로, 아직 commit 전인 쓰기 내용은 조회되지 않습니다.
+// - 쓰기는 쌓인 순서 그대로 전송되며, 연달아 쌓인 같은 SQL끼리만 하나의 batch로 합칩니다. (FK 순서 보장)
+// - 진행 중인 UnitOfWork 안에서 begin()을 다시 부르면 바깥 작업에 합류하고, commit은 가장 바깥에서만 이뤄집니다.
+// - 메모리 / 파일 저장소에서는 Connection 없이 쓰기만 쌓았다가 commit 때 반영합니다.
+//   -> 저장소는 shared()로 작업당 하나의 쓰기에 모아두고, commit 때 한 lock 안에서 모두 반영합니다.
+//   -> 도중에 하나라도 실패하면 저장소가 앞서 반영한 쓰기를 되돌리므로, JDBC의 rollback처럼 아무것도 남지 않슴다.
+//   -> WAL / force가 켜져 있다면 쌓인 쓰기를 모두 반영한 뒤 한 번만 기다립니다. (afterFlush)
+
+public class UnitOfWork implements AutoCloseable {
+    private static final ThreadLocal<UnitOfWork> current = new ThreadLocal<>();
+
+    private final Connection connection;  // [메모] Pool에서 빌려온 Connection, 작업이 끝나면 반납 (메모리 저장소라면 null)
+    private final Connection bound;       // [메모] Repository들에게 건네줄 Connection, close()가 무시됨 (메모리 저장소라면 null)
+    private final List<PendingWrite> pending = new ArrayList<>();
+    private final Set<PendingWrite> afterFlush = new LinkedHashSet<>();
+    private final Map<Object, PendingWrite> shared = new IdentityHashMap<>();
+    private int depth = 1;
+    private boolean committed = false;
+    private boolean joinedCommitted = false;
+    private boolean rollbackOnly = false;
+    private boolean flushing = false;
+
+    // [메모] commit 때 순서대로 전송될 쓰기 하나
+    @FunctionalInterface
+    public interface PendingWrite {
+        void flush() throws SQLException;
+    }
+
+    private UnitOfWork(Connection connection) {
+        this.connection = connection;
+        this.bound = connection == null ? null : (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            return null;
+                        case "isClosed":
+                            return connection.isClosed();
+                        // [메모] 빌려온 Connection을 꺼내가 닫으면 작업 도중 Pool에 반납되므로, 묶인 Proxy 자신만 내줌
+                        case "unwrap":
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return proxy;
+                            }
+                            throw new SQLException("unwrap 불가 : " + ((Class<?>) args[0]).getName());
+                        case "isWrapperFor":
+                            return ((Class<?>) args[0]).isInstance(proxy);
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+
+    /* 현재 스레드에 작업 시작 (이미 진행 중이라면 합류) */
+    public static UnitOfWork begin() throws SQLException {
+        UnitOfWork work = current.get();
+        if (work != null) {
+            work.depth++;
+            return work;
+        }
+        Connection conn = null;
+        if (Storage.selected() == Storage.JDBC) {
+            conn = MakeConnection.getConnection();
+            if (conn == null) {
+                throw new SQLException("Connection을 얻지 못했습니다.");
+            }
+            conn.setAutoCommit(false);
+        }
+        work = new UnitOfWork(conn);
+        current.set(work);
+        return work;
+    }
+
+    /* 쓰기를 쌓아둬야 하는 상황이라면 현재 작업 반환 (작업이 없거나 commit 중이면 null) */
+    public static UnitOfWork deferring() {
+        UnitOfWork work = current.get();
+        return work == null || work.flushing ? null : work;
+    }
+
+    // [메모] MakeConnection.getConnection()이 먼저 확인하는 Connection
+    static Connection boundConnection() {
+        UnitOfWork work = current.get();
+        return work == null ? null : work.bound;
+    }
+
+    /* 쓰기 예약 */
+    public void defer(PendingWrite write) {
+        pending.add(write);
+    }
+
+    /* owner마다 하나만 쌓이는 쓰기 (처음엔 factory로 만들어 쌓고, 이후엔 같은 쓰기를 돌려주므로 여기에 이어서 모음) */
+    @SuppressWarnings("unchecked")
+    public <W extends PendingWrite> W shared(Object owner, Supplier<W> factory) {
+        return (W) shared.computeIfAbsent(owner, key -> {
+            W write = factory.get();
+            pending.add(write);
+            return write;
+        });
+    }
+
+    /* 쌓인 쓰기들을 모두 보낸 뒤 commit 직전에 한 번 실행할 작업 예약 (같은 작업은 여러 번 예약해도 한 번만 실행) */
+    public void afterFlush(PendingWrite hook) {
+        afterFlush.add(hook);
+    }
+
+    /* SQL 쓰기 예약 (직전에 쌓인 쓰기와 SQL이 같다면 같은 batch에 이어붙임) */
+    @SuppressWarnings("unchecked")
+    public <E> void deferBatch(String sql, Binder<E> binder, Collection<E> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        if (!pending.isEmpty() && pending.get(pending.size() - 1) instanceof BatchWrite<?> last
+                && last.sql.equals(sql) && last.binder == binder) {
+            ((BatchWrite<E>) last).items.addAll(items);
+            return;
+        }
+        pending.add(new BatchWrite<>(sql, binder, items));
+    }
+
+    /* 쌓인 쓰기들을 순서대로 batch 전송 후 commit */
+    public void commit() throws SQLException {
+        if (depth > 1) {
+            joinedCommitted = true; // [메모] 합류한 작업이라면 바깥 작업이 commit
+            return;
+        }
+        if (rollbackOnly) {
+            throw new SQLException("합류한 작업이 실패해 commit 할 수 없습니다.");
+        }
+        flushing = true;
+        try {
+            for (PendingWrite write : pending) {
+                write.flush();
+            }
+            for (PendingWrite hook : afterFlush) {
+                hook.flush();
+            }
+            if (connection != null) {
+                connection.commit();
+            }
+            committed = true;
+        } finally {
+            flushing = false;
+            pending.clear();
+            afterFlush.clear();
+            shared.clear();
+        }
+    }
+
+    /* 작업 종료 (commit 되지 않았다면 rollback 후 Connection 반납) */
+    @Override
+    public void close() throws SQLException {
+        if (--depth > 0) {
+            // [메모] 합류한 작업이 commit 없이 끝났다면 바깥 작업도 commit 할 수 없음
+            if (!joinedCommitted) {
+                rollbackOnly = true;
+            }
+            joinedCommitted = false;
+            return;
+        }
+        current.remove();
+        if (connection == null) {
+            return;
+        }
+        try {
+            if (!committed) {
+                connection.rollback();
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } finally {
+                connection.close();
+            }
+        }
+    }
+
+    private static class BatchWrite<E> implements PendingWrite {
+        final String sql;
+        final Binder<E> binder;
+        final List<E> items;
+
+        BatchWrite(String sql, Binder<E> binder, Collection<E> items) {
+            this.sql = sql;
+            this.binder = binder;
+            this.items = new ArrayList<>(items);
+        }
+
+        @Override
+        public void flush() throws SQLException {
+            QueryExecutor.batch(sql, items, binder);
+        }
+    }
+}
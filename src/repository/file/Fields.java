@@ -0,0 +1,57 @@
+package repository.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLDataException;
+import java.util.Arrays;
+
+// [ Fields 클래스 설명 ]
+// - Fields는 고정 길이 레코드 안의 문자열 칸을 읽고 쓰기 위한 도우미 클래스임다.
+// - 문자열 칸은 [byte 길이][UTF-8 바이트] 형태이며, 칸 크기보다 긴 값은 MySQL처럼 SQLDataException으로 거절합니다.
+
+// [ 메모 ]
+// - 키(ID) 비교는 String을 만들지 않고 매핑된 buffer 위에서 바이트끼리 바로 비교합니다.
+
+final class Fields {
+    private Fields() {}
+
+    /* 칸 크기(width)에 맞춘 [길이][바이트] 배열 */
+    static byte[] encode(String value, int width, String column) throws SQLDataException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > width - 1) {
+            throw new SQLDataException("Data too long for column '" + column + "' : " + value);
+        }
+        byte[] field = new byte[width];
+        field[0] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, field, 1, bytes.length);
+        return field;
+    }
+
+    /* ID처럼 이미 길이가 검증된 값의 키 배열 (너무 길면 어떤 키와도 같지 않은 배열) */
+    static byte[] key(String value, int width) {
+        try {
+            return encode(value, width, "id");
+        } catch (SQLDataException e) {
+            // [메모] 0xFF는 UTF-8에 나오지 않는 바이트라 저장된 어떤 키와도 같을 수 없음
+            byte[] never = new byte[width];
+            Arrays.fill(never, (byte) 0xFF);
+            never[0] = (byte) (width - 1);
+            return never;
+        }
+    }
+
+    static String read(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[buffer.get(offset)];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static boolean keyEquals(ByteBuffer buffer, int offset, byte[] key) {
+        for (int i = 0; i <= key[0]; i++) {
+            if (buffer.get(offset + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,192 @@
+package repository.file;
+
+import configs.team.Authority;
+import model.team.Member;
+import repository.MemberRepository;
+import repository.query.MemberQuery;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// [ FileMemberRepository 클래스 설명 ]
+// - FileStore의 members.dat / members.idx를 저장소로 쓰는 MemberRepository 구현체입니다.
+// - 직접 부르지 않고 MemberRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 file일 때 선택됨)
+// - 각 메서드는 JdbcMemberRepository와 같은 결과를 내도록 맞춰져 있습니다.
+
+// [ 레코드 구성 ] 81 byte
+// - [팀원ID 16][이름 64][byte 권한]
+
+public class FileMemberRepository implements MemberRepository {
+    private static final FileMemberRepository instance = new FileMemberRepository();
+    public static FileMemberRepository getInstance() {
+        return instance;
+    }
+
+    private static final int ID = 0;
+    private static final int NAME = FileStore.ID_BYTES;
+    private static final int AUTH = NAME + FileStore.NAME_BYTES;
+    static final int RECORD_BYTES = AUTH + 1;
+
+    private static final Authority[] AUTHORITIES = Authority.values();
+
+    private final FileStore store = FileStore.getInstance();
+
+    private FileMemberRepository() {}
+
+    @Override
+    public void save(Member entity) throws SQLException {
+        saveAll(List.of(entity));
+    }
+
+    @Override
+    public void saveAll(Collection<Member> entities) throws SQLException {
+        List<Member> copies = List.copyOf(entities);
+        FileStore.write(() -> {
+            // [1] 하나라도 중복이거나 너무 길면 아무것도 저장하지 않음 (JDBC batch의 rollback과 같은 결과)
+            Set<String> seen = new HashSet<>();
+            List<byte[][]> encoded = new ArrayList<>();
+            for (Member member : copies) {
+                byte[] id = Fields.encode(member.getMid(), FileStore.ID_BYTES, "id");
+                if (store.memberIndex.get(id) >= 0 || !seen.add(member.getMid())) {
+                    throw FileStore.duplicate(member.getMid());
+                }
+                encoded.add(new byte[][]{id, Fields.encode(member.getName(), FileStore.NAME_BYTES, "name")});
+            }
+            // [2] 레코드 기록 후 인덱스 반영
+            for (int i = 0; i < copies.size(); i++) {
+                int slot = store.members.allocate();
+                ByteBuffer buffer = store.members.buffer();
+                int offset = store.members.recordOffset(slot);
+                buffer.put(offset + ID, encoded.get(i)[0]);
+                buffer.put(offset + NAME, encoded.get(i)[1]);
+                buffer.put(offset + AUTH, (byte) copies.get(i).getAuth().ordinal());
+                store.members.markLive(slot);
+                store.memberIndex.put(encoded.get(i)[0], slot);
+            }
+            return FileStore.dropInserted(store.members, store.memberIndex, encoded.stream().map(fields -> fields[0]).toList());
+        });
+    }
+
+    @Override
+    public Member findById(String id) {
+        return store.read(() -> {
+            int slot = store.memberIndex.get(Fields.key(id, FileStore.ID_BYTES));
+            return slot < 0 ? null : decode(slot);
+        });
+    }
+
+    @Override
+    public void deleteById(String id) throws SQLException {
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> ids) throws SQLException {
+        List<String> targets = List.copyOf(ids);
+        FileStore.write(() -> {
+            // [메모] 되돌릴 때 다시 쓸 레코드와, 함께 풀린 배정을 모아둠
+            List<byte[]> records = new ArrayList<>();
+            List<String[]> unlinked = new ArrayList<>();
+            for (String id : targets) {
+                byte[] key = Fields.key(id, FileStore.ID_BYTES);
+                int slot = store.memberIndex.get(key);
+                if (slot >= 0) {
+                    records.add(FileStore.record(store.members, slot));
+                    store.memberIndex.remove(key);
+                    store.members.release(slot);
+                    unlinked.addAll(store.unlinkAll(FileStore.LINK_MID, id));
+                }
+            }
+            return store.reinsert(store.members, store.memberIndex, records, unlinked);
+        });
+    }
+
+    @Override
+    public void update(Member entity) throws SQLException {
+        updateAll(List.of(entity));
+    }
+
+    @Override
+    public void updateAll(Collection<Member> entities) throws SQLException {
+        List<Member> changes = List.copyOf(entities);
+        FileStore.write(() -> {
+            // [1] 너무 긴 이름이 있다면 아무것도 바꾸지 않음
+            List<byte[]> names = new ArrayList<>();
+            for (Member change : changes) {
+                names.add(Fields.encode(change.getName(), FileStore.NAME_BYTES, "name"));
+            }
+            // [2] 이름 / 권한을 제자리에서 바꾸고, 없는 팀원은 UPDATE 문처럼 무시 (되돌릴 때 쓸 원래 레코드는 복사해둠)
+            List<Integer> slots = new ArrayList<>();
+            List<byte[]> records = new ArrayList<>();
+            for (int i = 0; i < changes.size(); i++) {
+                int slot = store.memberIndex.get(Fields.key(changes.get(i).getMid(), FileStore.ID_BYTES));
+                if (slot < 0) {
+                    continue;
+                }
+                slots.add(slot);
+                records.add(FileStore.record(store.members, slot));
+                ByteBuffer buffer = store.members.buffer();
+                int offset = store.members.recordOffset(slot);
+                buffer.put(offset + NAME, names.get(i));
+                buffer.put(offset + AUTH, (byte) changes.get(i).getAuth().ordinal());
+            }
+            return FileStore.restoreInPlace(store.members, slots, records);
+        });
+    }
+
+    @Override
+    public Collection<Member> findAll() {
+        try (Stream<Member> members = streamAll(0)) {
+            return members.toList();
+        }
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return store.read(() -> store.memberIndex.get(Fields.key(id, FileStore.ID_BYTES)) >= 0);
+    }
+
+    @Override
+    public int count() {
+        return store.read(store.members::liveCount);
+    }
+
+    @Override
+    public Stream<Member> streamAll(int fetchSize) {
+        return store.stream(store.members, slot -> true, this::decode);
+    }
+
+    @Override
+    public List<Member> findPage(String afterId, int limit) {
+        return store.page(store.members, afterId, limit, this::decode);
+    }
+
+    @Override
+    public Collection<Member> findByQuery(MemberQuery memberQuery) {
+        try (Stream<Member> members = streamByQuery(memberQuery, 0)) {
+            return new ArrayList<>(members.toList());
+        }
+    }
+
+    @Override
+    public Stream<Member> streamByQuery(MemberQuery memberQuery, int fetchSize) {
+        return store.stream(store.members, slot -> true, this::decode)
+                .filter(member -> memberQuery.matches(member, store::hasTasks));
+    }
+
+    /* 슬롯의 레코드를 Member로 (읽기 또는 쓰기 lock 안에서 호출) */
+    private Member decode(int slot) {
+        ByteBuffer buffer = store.members.buffer();
+        int offset = store.members.recordOffset(slot);
+        return new Member(
+                Fields.read(buffer, offset + ID),
+                Fields.read(buffer, offset + NAME),
+                AUTHORITIES[buffer.get(offset + AUTH)]);
+    }
+}
@@ -0,0 +1,243 @@
+package repository.file;
+
+import configs.project.TaskStatus;
+import configs.project.TaskType;
+import model.project.Task;
+import repository.ProjectRepository;
+import repository.query.TaskQuery;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// [ FileProjectRepository 클래스 설명 ]
+// - FileStore의 tasks.dat / tasks.idx를 저장소로 쓰는 ProjectRepository 구현체입니다.
+// - 직접 부르지 않고 ProjectRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 file일 때 선택됨)
+// - 각 메서드는 JdbcProjectRepository와 같은 결과를 내도록 맞춰져 있습니다. (수정은 업무명/상태/마감일만 반영 등)
+
+// [ 레코드 구성 ] 98 byte
+// - [업무ID 16][업무명 64][byte 유형][byte 상태][long 마감일(epoch day)][long 등록일(epoch day)]
+
+// [ 메모 ]
+// - 상태별 개수와 유형/상태 조건 조회는 레코드 전체를 꺼내지 않고, 매핑된 buffer에서 유형/상태 칸 1 byte만 읽어 거릅니다.
+
+public class FileProjectRepository implements ProjectRepository {
+    private static final FileProjectRepository instance = new FileProjectRepository();
+    public static FileProjectRepository getInstance() {
+        return instance;
+    }
+
+    private static final int ID = 0;
+    private static final int NAME = FileStore.ID_BYTES;
+    private static final int TYPE = NAME + FileStore.NAME_BYTES;
+    private static final int STATUS = TYPE + 1;
+    private static final int DUE_TO = STATUS + 1;
+    private static final int CREATED_AT = DUE_TO + Long.BYTES;
+    static final int RECORD_BYTES = CREATED_AT + Long.BYTES;
+
+    private static final TaskType[] TYPES = TaskType.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    // [메모] 마감일이 보류된 업무는 JDBC 구현체와 같게 9999-12-31로 보관
+    private static final LocalDate NO_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    private final FileStore store = FileStore.getInstance();
+
+    private FileProjectRepository() {}
+
+    @Override
+    public void save(Task entity) throws SQLException {
+        saveAll(List.of(entity));
+    }
+
+    @Override
+    public void saveAll(Collection<Task> entities) throws SQLException {
+        List<Task> copies = List.copyOf(entities);
+        FileStore.write(() -> {
+            // [1] 하나라도 중복이거나 너무 길면 아무것도 저장하지 않음 (JDBC batch의 rollback과 같은 결과)
+            Set<String> seen = new HashSet<>();
+            List<byte[][]> encoded = new ArrayList<>();
+            for (Task task : copies) {
+                byte[] id = Fields.encode(task.getTid(), FileStore.ID_BYTES, "id");
+                if (store.taskIndex.get(id) >= 0 || !seen.add(task.getTid())) {
+                    throw FileStore.duplicate(task.getTid());
+                }
+                encoded.add(new byte[][]{id, Fields.encode(task.getName(), FileStore.NAME_BYTES, "name")});
+            }
+            // [2] 레코드 기록 후 인덱스 반영
+            for (int i = 0; i < copies.size(); i++) {
+                Task task = copies.get(i);
+                int slot = store.tasks.allocate();
+                ByteBuffer buffer = store.tasks.buffer();
+                int offset = store.tasks.recordOffset(slot);
+                buffer.put(offset + ID, encoded.get(i)[0]);
+                buffer.put(offset + NAME, encoded.get(i)[1]);
+                buffer.put(offset + TYPE, (byte) task.getType().ordinal());
+                buffer.put(offset + STATUS, (byte) task.getStatus().ordinal());
+                buffer.putLong(offset + DUE_TO, dueOf(task).toEpochDay());
+                buffer.putLong(offset + CREATED_AT, task.getCreatedAt().toEpochDay());
+                store.tasks.markLive(slot);
+                store.taskIndex.put(encoded.get(i)[0], slot);
+            }
+            return FileStore.dropInserted(store.tasks, store.taskIndex, encoded.stream().map(fields -> fields[0]).toList());
+        });
+    }
+
+    @Override
+    public Task findById(String eid) {
+        return store.read(() -> {
+            int slot = store.taskIndex.get(Fields.key(eid, FileStore.ID_BYTES));
+            return slot < 0 ? null : decode(slot);
+        });
+    }
+
+    @Override
+    public void deleteById(String eid) throws SQLException {
+        deleteAllById(List.of(eid));
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> eids) throws SQLException {
+        List<String> ids = List.copyOf(eids);
+        FileStore.write(() -> {
+            // [메모] 되돌릴 때 다시 쓸 레코드와, 함께 풀린 배정을 모아둠
+            List<byte[]> records = new ArrayList<>();
+            List<String[]> unlinked = new ArrayList<>();
+            for (String eid : ids) {
+                byte[] key = Fields.key(eid, FileStore.ID_BYTES);
+                int slot = store.taskIndex.get(key);
+                if (slot >= 0) {
+                    records.add(FileStore.record(store.tasks, slot));
+                    store.taskIndex.remove(key);
+                    store.tasks.release(slot);
+                    unlinked.addAll(store.unlinkAll(FileStore.LINK_PID, eid));
+                }
+            }
+            return store.reinsert(store.tasks, store.taskIndex, records, unlinked);
+        });
+    }
+
+    @Override
+    public void update(Task entity) throws SQLException {
+        updateAll(List.of(entity));
+    }
+
+    @Override
+    public void updateAll(Collection<Task> entities) throws SQLException {
+        List<Task> changes = List.copyOf(entities);
+        FileStore.write(() -> {
+            // [1] 너무 긴 업무명이 있다면 아무것도 바꾸지 않음
+            List<byte[]> names = new ArrayList<>();
+            for (Task change : changes) {
+                names.add(Fields.encode(change.getName(), FileStore.NAME_BYTES, "name"));
+            }
+            // [2] UPDATE 문과 같게 업무명 / 상태 / 마감일만 제자리에서 바꾸고, 없는 업무는 무시 (되돌릴 때 쓸 원래 레코드는 복사해둠)
+            List<Integer> slots = new ArrayList<>();
+            List<byte[]> records = new ArrayList<>();
+            for (int i = 0; i < changes.size(); i++) {
+                Task change = changes.get(i);
+                int slot = store.taskIndex.get(Fields.key(change.getTid(), FileStore.ID_BYTES));
+                if (slot < 0) {
+                    continue;
+                }
+                slots.add(slot);
+                records.add(FileStore.record(store.tasks, slot));
+                ByteBuffer buffer = store.tasks.buffer();
+                int offset = store.tasks.recordOffset(slot);
+                buffer.put(offset + NAME, names.get(i));
+                buffer.put(offset + STATUS, (byte) change.getStatus().ordinal());
+                buffer.putLong(offset + DUE_TO, dueOf(change).toEpochDay());
+            }
+            return FileStore.restoreInPlace(store.tasks, slots, records);
+        });
+    }
+
+    @Override
+    public Collection<Task> findAll() {
+        try (Stream<Task> tasks = streamAll(0)) {
+            return tasks.toList();
+        }
+    }
+
+    @Override
+    public boolean existsById(String eid) {
+        return store.read(() -> store.taskIndex.get(Fields.key(eid, FileStore.ID_BYTES)) >= 0);
+    }
+
+    @Override
+    public int count() {
+        return store.read(store.tasks::liveCount);
+    }
+
+    @Override
+    public Stream<Task> streamAll(int fetchSize) {
+        return store.stream(store.tasks, slot -> true, this::decode);
+    }
+
+    @Override
+    public List<Task> findPage(String afterId, int limit) {
+        return store.page(store.tasks, afterId, limit, this::decode);
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery taskQuery) {
+        try (Stream<Task> tasks = streamByQuery(taskQuery, 0)) {
+            return new ArrayList<>(tasks.toList());
+        }
+    }
+
+    @Override
+    public Stream<Task> streamByQuery(TaskQuery taskQuery, int fetchSize) {
+        // [메모] 유형 / 상태 조건은 레코드를 꺼내기 전에 1 byte 칸으로 먼저 거름
+        int type = taskQuery.getType() == null ? -1 : taskQuery.getType().ordinal();
+        int status = taskQuery.getStatus() == null ? -1 : taskQuery.getStatus().ordinal();
+        return store.stream(store.tasks, slot -> {
+                    int offset = store.tasks.recordOffset(slot);
+                    return (type < 0 || store.tasks.buffer().get(offset + TYPE) == type)
+                            && (status < 0 || store.tasks.buffer().get(offset + STATUS) == status);
+                }, this::decode)
+                .filter(task -> taskQuery.matches(task, store::isLinked));
+    }
+
+    @Override
+    public EnumMap<TaskStatus, Integer> countByStatus() {
+        int[] counts = store.read(() -> {
+            int[] byStatus = new int[STATUSES.length];
+            ByteBuffer buffer = store.tasks.buffer();
+            for (int slot = 0, high = store.tasks.highWater(); slot < high; slot++) {
+                if (store.tasks.isLive(slot)) {
+                    byStatus[buffer.get(store.tasks.recordOffset(slot) + STATUS)]++;
+                }
+            }
+            return byStatus;
+        });
+        EnumMap<TaskStatus, Integer> result = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            result.put(status, counts[status.ordinal()]);
+        }
+        return result;
+    }
+
+    /* 슬롯의 레코드를 Task로 (읽기 또는 쓰기 lock 안에서 호출) */
+    private Task decode(int slot) {
+        ByteBuffer buffer = store.tasks.buffer();
+        int offset = store.tasks.recordOffset(slot);
+        return new Task(
+                Fields.read(buffer, offset + ID),
+                Fields.read(buffer, offset + NAME),
+                TYPES[buffer.get(offset + TYPE)],
+                STATUSES[buffer.get(offset + STATUS)],
+                LocalDate.ofEpochDay(buffer.getLong(offset + DUE_TO)),
+                LocalDate.ofEpochDay(buffer.getLong(offset + CREATED_AT)));
+    }
+
+    private static LocalDate dueOf(Task task) {
+        return task.getDueTo() == null ? NO_DUE_DATE : task.getDueTo();
+    }
+}
@@ -0,0 +1,128 @@
+package repository.file;
+
+import model.ProjectTeam;
+import model.project.Task;
+import repository.ProjectTeamRepository;
+import utils.Pair;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// [ FileProjectTeamRepository 클래스 설명 ]
+// - FileStore의 links.dat / links.idx를 저장소로 쓰는 ProjectTeamRepository 구현체입니다.
+// - 직접 부르지 않고 ProjectTeamRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 file일 때 선택됨)
+
+// [ 레코드 구성 ] 32 byte
+// - [업무ID 16][팀원ID 16]
+
+public class FileProjectTeamRepository implements ProjectTeamRepository {
+    private static final FileProjectTeamRepository instance = new FileProjectTeamRepository();
+    public static FileProjectTeamRepository getInstance() {
+        return instance;
+    }
+
+    private final FileStore store = FileStore.getInstance();
+
+    private FileProjectTeamRepository() {}
+
+    @Override
+    public void addMemberToProject(String projectId, String memberId) throws SQLException {
+        addMembersToProjects(List.of(new ProjectTeam(projectId, memberId)));
+    }
+
+    @Override
+    public void addMembersToProjects(Collection<ProjectTeam> links) throws SQLException {
+        if (links.isEmpty()) {
+            return;
+        }
+        List<String[]> pairs = toPairs(links);
+        FileStore.write(() -> store.link(pairs));
+    }
+
+    @Override
+    public void removeMemberFromProject(String projectId, String memberId) throws SQLException {
+        removeMembersFromProjects(List.of(new ProjectTeam(projectId, memberId)));
+    }
+
+    @Override
+    public void removeMembersFromProjects(Collection<ProjectTeam> links) throws SQLException {
+        if (links.isEmpty()) {
+            return;
+        }
+        List<String[]> pairs = toPairs(links);
+        FileStore.write(() -> store.unlink(pairs));
+    }
+
+    @Override
+    public Set<String> findMemberIdsOf(String projectId) {
+        return store.read(() -> store.linkedIds(FileStore.LINK_PID, projectId));
+    }
+
+    @Override
+    public Set<String> findProjectIdsOf(String memberId) {
+        return store.read(() -> store.linkedIds(FileStore.LINK_MID, memberId));
+    }
+
+    @Override
+    public Set<Task> findProjectbyMember(String memberId) {
+        Set<Task> tasks = new HashSet<>();
+        for (String tid : findProjectIdsOf(memberId)) {
+            Task task = FileProjectRepository.getInstance().findById(tid);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public Map<String, Set<Task>> findProjectsByMembers(Collection<String> memberIds) {
+        // [1] 읽기 lock 한 번 안에서 팀원들의 담당 업무ID를 보조 인덱스로 모음
+        Map<String, Set<String>> tidsByMember = store.read(() -> {
+            Map<String, Set<String>> tids = new LinkedHashMap<>();
+            for (String memberId : memberIds) {
+                tids.put(memberId, store.linkedIds(FileStore.LINK_MID, memberId));
+            }
+            return tids;
+        });
+        // [2] 여러 팀원이 같은 업무를 맡았을 수 있으므로, 업무 하나는 한 번만 읽음
+        Map<String, Task> tasks = new HashMap<>();
+        Map<String, Set<Task>> tasksByMember = new LinkedHashMap<>();
+        tidsByMember.forEach((memberId, tids) -> {
+            Set<Task> memberTasks = new HashSet<>();
+            for (String tid : tids) {
+                Task task = tasks.computeIfAbsent(tid, FileProjectRepository.getInstance()::findById);
+                if (task != null) {
+                    memberTasks.add(task);
+                }
+            }
+            tasksByMember.put(memberId, memberTasks);
+        });
+        return tasksByMember;
+    }
+
+    @Override
+    public Pair<Integer, Integer> countAssignment() {
+        return new Pair<>(store.assignedMemberCount(), store.read(store.members::liveCount));
+    }
+
+    @Override
+    public Map<String, Integer> countTasksByMember() {
+        return store.taskCountsByMember();
+    }
+
+    @Override
+    public boolean exists(String projectId, String memberId) {
+        return store.isLinked(projectId, memberId);
+    }
+
+    private static List<String[]> toPairs(Collection<ProjectTeam> links) {
+        return links.stream().map(link -> new String[]{link.getTaskID(), link.getMemberID()}).toList();
+    }
+}
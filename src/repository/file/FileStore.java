@@ -0,0 +1,402 @@
+package repository.file;
+
+import configs.repository.DBConfig;
+import repository.UnitOfWork;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// [ FileStore 클래스 설명 ]
+// - FileStore는 파일 저장소 엔진의 실제 데이터 보관함으로, 세 File*Repository가 하나를 공유합니다.
+// - projects / members / project_team 테이블을 각각 고정 길이 레코드 파일(MappedTable)과 기본키 인덱스 파일(HashIndex)로 보관합니다.
+// - 레코드는 매핑된 buffer에서 필요한 칸만 바로 읽으므로, 열 때 파싱할 것이 없고 조회 시 page cache 밖으로 복사하지 않습니다.
+
+// [ 파일 구성 ] DBConfig.FILE_DIR 아래
+// - tasks.dat / tasks.idx     : 업무 레코드 / 업무ID 인덱스
+// - members.dat / members.idx : 팀원 레코드 / 팀원ID 인덱스
+// - links.dat / links.idx     : 배정 레코드 / "업무ID/팀원ID" 인덱스
+
+// [ 메모 ]
+// - 조회끼리는 동시에, 쓰기는 하나씩 수행하도록 ReadWriteLock으로 보호합니다.
+// - 쓰기는 MemoryStore와 같이 UnitOfWork가 진행 중이면 commit 때까지 미뤘다가 반영합니다.
+//   -> 한 작업의 쓰기들은 Batch 하나로 모아 write lock 안에서 이어서 반영하고, 하나라도 실패하면 앞서 반영한 쓰기를 Undo로 되돌립니다.
+//   -> 그래서 업무 저장 뒤 배정이 실패해도 업무만 남는 일이 없슴다. (JDBC의 rollback과 같은 결과)
+// - 매핑된 파일에 쓴 내용은 프로세스가 죽어도 OS의 page cache에 남아 파일에 반영됩니다.
+//   전원이 꺼지는 상황까지 대비하려면 DBConfig.FILE_SYNC를 켜서, 쓰기마다 force()로 디스크에 내려쓰도록 합니다.
+// - 배정은 업무ID -> 슬롯들 / 팀원ID -> 슬롯들 보조 인덱스를 메모리에 둡니다. (열 때 links.dat를 한 번 훑어 만들고, link / unlink에서 함께 고침)
+//   -> 업무/팀원 기준 조회와 담당 업무 유무 확인이 배정 파일 전체가 아닌 해당 배정 수에 비례합니다.
+// - 슬롯은 ID 순서가 아니므로, 목록 조회는 ID 칸만 읽어 정렬한 뒤 레코드를 꺼냅니다. (MySQL의 기본키 순서와 같게)
+
+class FileStore {
+    private static final FileStore instance = new FileStore();
+    static FileStore getInstance() {
+        return instance;
+    }
+
+    // [ 레코드 구성 ]
+    static final int ID_BYTES = 16;
+    static final int NAME_BYTES = 64;
+    static final int LINK_KEY_BYTES = ID_BYTES * 2;
+    static final int LINK_PID = 0;
+    static final int LINK_MID = ID_BYTES;
+    static final int LINK_RECORD_BYTES = ID_BYTES * 2;
+
+    final MappedTable tasks;
+    final MappedTable members;
+    final MappedTable links;
+    final HashIndex taskIndex;
+    final HashIndex memberIndex;
+    final HashIndex linkIndex;
+
+    // [메모] 배정 보조 인덱스 (lock으로 보호, 슬롯은 links.dat의 슬롯)
+    private final Map<String, Set<Integer>> linkSlotsByTask = new HashMap<>();
+    private final Map<String, Set<Integer>> linkSlotsByMember = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final boolean syncEachWrite = Boolean.parseBoolean(DBConfig.FILE_SYNC.getValue());
+
+    // [메모] UnitOfWork 안의 쓰기들은 commit 때 모두 반영한 뒤 force()를 한 번만 수행
+    private static final UnitOfWork.PendingWrite SYNC = () -> instance.sync();
+
+    // [메모] write lock 안에서 실행될 쓰기 (매핑 확장 등으로 IOException이 날 수 있음), 반영을 되돌릴 Undo를 반환
+    @FunctionalInterface
+    interface Write {
+        Undo apply() throws SQLException, IOException;
+    }
+
+    // [메모] 반영된 쓰기를 되돌리는 작업 (같은 write lock 안에서, 뒤에 반영된 쓰기가 먼저 되돌려진 뒤에 실행됨)
+    @FunctionalInterface
+    interface Undo {
+        void revert() throws SQLException, IOException;
+    }
+
+    static final Undo NOTHING = () -> {};
+
+    // [메모] 목록 조회 시 정렬에 쓰는 (ID, 슬롯) 쌍
+    record Row(String id, int slot) {}
+
+    private FileStore() {
+        Path dir = Path.of(DBConfig.FILE_DIR.getValue());
+        try {
+            Files.createDirectories(dir);
+            tasks = MappedTable.open(dir.resolve("tasks.dat"), FileProjectRepository.RECORD_BYTES);
+            members = MappedTable.open(dir.resolve("members.dat"), FileMemberRepository.RECORD_BYTES);
+            links = MappedTable.open(dir.resolve("links.dat"), LINK_RECORD_BYTES);
+            taskIndex = HashIndex.open(dir.resolve("tasks.idx"), ID_BYTES);
+            memberIndex = HashIndex.open(dir.resolve("members.idx"), ID_BYTES);
+            linkIndex = HashIndex.open(dir.resolve("links.idx"), LINK_KEY_BYTES);
+        } catch (IOException e) {
+            throw new IllegalStateException("파일 저장소를 열지 못했습니다 : " + dir.toAbsolutePath(), e);
+        }
+        for (int slot = 0, high = links.highWater(); slot < high; slot++) {
+            if (links.isLive(slot)) {
+                int offset = links.recordOffset(slot);
+                indexLink(Fields.read(links.buffer(), offset + LINK_PID), Fields.read(links.buffer(), offset + LINK_MID), slot);
+            }
+        }
+    }
+
+    // [ 읽기 / 쓰기 ]
+
+    /* 쓰기 실행 (UnitOfWork가 진행 중이라면 commit 때까지 미뤄둠) */
+    static void write(Write write) throws SQLException {
+        UnitOfWork work = UnitOfWork.deferring();
+        if (work != null) {
+            work.shared(instance, Batch::new).writes.add(write);
+            work.afterFlush(SYNC);
+        } else {
+            instance.locked(write);
+            instance.sync();
+        }
+    }
+
+    /* 읽기 lock 안에서 실행 */
+    <R> R read(Supplier<R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void locked(Write write) throws SQLException {
+        lockedAll(List.of(write));
+    }
+
+    // [메모] UnitOfWork 하나에서 쌓인 쓰기들 (commit 때 lockedAll()로 한 번에 반영)
+    private static final class Batch implements UnitOfWork.PendingWrite {
+        final List<Write> writes = new ArrayList<>();
+
+        @Override
+        public void flush() throws SQLException {
+            instance.lockedAll(writes);
+        }
+    }
+
+    /* write lock 하나 안에서 쓰기들을 모두 반영하거나, 실패 시 앞서 반영한 것들을 거꾸로 되돌림 */
+    private void lockedAll(List<Write> writes) throws SQLException {
+        lock.writeLock().lock();
+        try {
+            Deque<Undo> undo = new ArrayDeque<>();
+            try {
+                for (Write write : writes) {
+                    undo.push(write.apply());
+                }
+            } catch (SQLException | IOException | RuntimeException e) {
+                while (!undo.isEmpty()) {
+                    try {
+                        undo.pop().revert();
+                    } catch (SQLException | IOException | RuntimeException revertFailure) {
+                        e.addSuppressed(revertFailure);
+                    }
+                }
+                if (e instanceof IOException) {
+                    throw new SQLException("파일 저장소 쓰기 실패", e);
+                }
+                if (e instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw (RuntimeException) e;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // [ 되돌리기 ] (write lock 안에서 호출)
+
+    /* 슬롯의 레코드 전체 복사 */
+    static byte[] record(MappedTable table, int slot) {
+        byte[] bytes = new byte[table.recordBytes()];
+        table.buffer().get(table.recordOffset(slot), bytes);
+        return bytes;
+    }
+
+    /* 새로 저장한 ID들의 레코드 삭제 (저장의 Undo) */
+    static Undo dropInserted(MappedTable table, HashIndex index, List<byte[]> keys) {
+        return () -> {
+            for (byte[] key : keys) {
+                int slot = index.get(key);
+                if (slot >= 0) {
+                    index.remove(key);
+                    table.release(slot);
+                }
+            }
+        };
+    }
+
+    /* 제자리에서 고친 레코드들을 복사해둔 내용으로 (수정의 Undo, 같은 슬롯을 두 번 고쳤을 수 있어 거꾸로) */
+    static Undo restoreInPlace(MappedTable table, List<Integer> slots, List<byte[]> records) {
+        return () -> {
+            for (int i = slots.size() - 1; i >= 0; i--) {
+                table.buffer().put(table.recordOffset(slots.get(i)), records.get(i));
+            }
+        };
+    }
+
+    /* 삭제한 레코드들을 새 슬롯에 다시 쓰고, 함께 풀린 배정도 다시 연결 (삭제의 Undo, 레코드의 첫 칸이 ID인 테이블만) */
+    Undo reinsert(MappedTable table, HashIndex index, List<byte[]> records, List<String[]> unlinked) {
+        return () -> {
+            for (byte[] record : records) {
+                int slot = table.allocate();
+                table.buffer().put(table.recordOffset(slot), record);
+                table.markLive(slot);
+                index.put(Arrays.copyOf(record, ID_BYTES), slot);
+            }
+            link(unlinked);
+        };
+    }
+
+    private void sync() {
+        if (!syncEachWrite) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            tasks.force();
+            members.force();
+            links.force();
+            taskIndex.force();
+            memberIndex.force();
+            linkIndex.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // [ 목록 조회 ]
+
+    /* 살아있는 슬롯 중 filter를 통과한 것들을 ID 순으로 (읽기 lock 안에서 호출, 레코드의 첫 칸이 ID인 테이블만) */
+    List<Row> rows(MappedTable table, IntPredicate filter) {
+        List<Row> rows = new ArrayList<>(table.liveCount());
+        MappedByteBuffer buffer = table.buffer();
+        for (int slot = 0, high = table.highWater(); slot < high; slot++) {
+            if (table.isLive(slot) && filter.test(slot)) {
+                rows.add(new Row(Fields.read(buffer, table.recordOffset(slot)), slot));
+            }
+        }
+        rows.sort(Comparator.comparing(Row::id));
+        return rows;
+    }
+
+    /* ID 순서 Stream, 레코드는 소비될 때 하나씩 읽음 (그 사이 삭제되거나 슬롯이 재사용된 행은 건너뜀) */
+    <T> Stream<T> stream(MappedTable table, IntPredicate filter, IntFunction<T> decoder) {
+        List<Row> rows = read(() -> rows(table, filter));
+        return rows.stream()
+                .map(row -> read(() -> table.isLive(row.slot())
+                        && Fields.keyEquals(table.buffer(), table.recordOffset(row.slot()), Fields.key(row.id(), ID_BYTES))
+                        ? decoder.apply(row.slot()) : null))
+                .filter(Objects::nonNull);
+    }
+
+    /* afterId 다음 ID부터 limit개 */
+    <T> List<T> page(MappedTable table, String afterId, int limit, IntFunction<T> decoder) {
+        return read(() -> rows(table, slot -> true).stream()
+                .filter(row -> afterId == null || row.id().compareTo(afterId) > 0)
+                .limit(limit)
+                .map(row -> decoder.apply(row.slot()))
+                .toList());
+    }
+
+    static SQLException duplicate(String id) {
+        return new SQLIntegrityConstraintViolationException("Duplicate entry '" + id + "' for key 'PRIMARY'");
+    }
+
+    // [ project_team ] (쓰기는 write lock 안에서 호출)
+
+    static byte[] linkKey(String pid, String mid) {
+        return Fields.key(pid + "/" + mid, LINK_KEY_BYTES);
+    }
+
+    /* 배정 추가 (업무와 팀원이 모두 있어야 하고, 이미 배정된 쌍은 거절) */
+    Undo link(Collection<String[]> pairs) throws SQLException, IOException {
+        // [1] 하나라도 어긋나면 아무것도 반영하지 않도록 먼저 모두 검사
+        Set<String> seen = new HashSet<>();
+        for (String[] pair : pairs) {
+            if (taskIndex.get(Fields.key(pair[0], ID_BYTES)) < 0 || memberIndex.get(Fields.key(pair[1], ID_BYTES)) < 0) {
+                throw new SQLIntegrityConstraintViolationException("Cannot add or update a child row: " + pair[0] + "/" + pair[1]);
+            }
+            if (linkIndex.get(linkKey(pair[0], pair[1])) >= 0 || !seen.add(pair[0] + "/" + pair[1])) {
+                throw duplicate(pair[0] + "-" + pair[1]);
+            }
+        }
+        // [2] 레코드 기록 후 인덱스 반영
+        for (String[] pair : pairs) {
+            int slot = links.allocate();
+            MappedByteBuffer buffer = links.buffer();
+            int offset = links.recordOffset(slot);
+            buffer.put(offset + LINK_PID, Fields.key(pair[0], ID_BYTES));
+            buffer.put(offset + LINK_MID, Fields.key(pair[1], ID_BYTES));
+            links.markLive(slot);
+            linkIndex.put(linkKey(pair[0], pair[1]), slot);
+            indexLink(pair[0], pair[1], slot);
+        }
+        List<String[]> added = List.copyOf(pairs);
+        return () -> unlink(added);
+    }
+
+    /* 배정 해제 (실제로 풀린 쌍만 다시 연결하는 Undo 반환) */
+    Undo unlink(Collection<String[]> pairs) {
+        List<String[]> removed = new ArrayList<>();
+        for (String[] pair : pairs) {
+            byte[] key = linkKey(pair[0], pair[1]);
+            int slot = linkIndex.get(key);
+            if (slot >= 0) {
+                linkIndex.remove(key);
+                links.release(slot);
+                unindexLink(pair[0], pair[1], slot);
+                removed.add(pair);
+            }
+        }
+        return () -> link(removed);
+    }
+
+    /* 업무 / 팀원 삭제 시 해당 배정 모두 해제하고, 풀린 쌍들 반환 (field = LINK_PID 또는 LINK_MID) */
+    List<String[]> unlinkAll(int field, String id) {
+        List<String[]> pairs = new ArrayList<>();
+        for (int slot : linkSlots(field, id)) {
+            int offset = links.recordOffset(slot);
+            pairs.add(new String[]{Fields.read(links.buffer(), offset + LINK_PID), Fields.read(links.buffer(), offset + LINK_MID)});
+        }
+        unlink(pairs);
+        return pairs;
+    }
+
+    /* field 칸이 id인 배정들의 반대편 ID (읽기 lock 안에서 호출) */
+    Set<String> linkedIds(int field, String id) {
+        int other = field == LINK_PID ? LINK_MID : LINK_PID;
+        Set<String> ids = new HashSet<>();
+        for (int slot : linkSlots(field, id)) {
+            ids.add(Fields.read(links.buffer(), links.recordOffset(slot) + other));
+        }
+        return ids;
+    }
+
+    boolean isLinked(String pid, String mid) {
+        return read(() -> linkIndex.get(linkKey(pid, mid)) >= 0);
+    }
+
+    boolean hasTasks(String mid) {
+        return read(() -> linkSlotsByMember.containsKey(mid));
+    }
+
+    /* 담당 업무가 하나 이상인 팀원 수 */
+    int assignedMemberCount() {
+        return read(linkSlotsByMember::size);
+    }
+
+    /* 팀원별 담당 업무 수 */
+    Map<String, Integer> taskCountsByMember() {
+        return read(() -> {
+            Map<String, Integer> counts = new HashMap<>();
+            linkSlotsByMember.forEach((mid, slots) -> counts.put(mid, slots.size()));
+            return counts;
+        });
+    }
+
+    /* field 칸이 id인 배정들의 슬롯 (lock 안에서 호출) */
+    private List<Integer> linkSlots(int field, String id) {
+        Set<Integer> slots = (field == LINK_PID ? linkSlotsByTask : linkSlotsByMember).get(id);
+        return slots == null ? List.of() : new ArrayList<>(slots);
+    }
+
+    private void indexLink(String pid, String mid, int slot) {
+        linkSlotsByTask.computeIfAbsent(pid, k -> new HashSet<>()).add(slot);
+        linkSlotsByMember.computeIfAbsent(mid, k -> new HashSet<>()).add(slot);
+    }
+
+    // [메모] 마지막 배정이 빠지면 키도 지워서, linkSlotsByMember의 크기가 곧 담당 업무가 있는 팀원 수
+    private void unindexLink(String pid, String mid, int slot) {
+        removeSlot(linkSlotsByTask, pid, slot);
+        removeSlot(linkSlotsByMember, mid, slot);
+    }
+
+    private static void removeSlot(Map<String, Set<Integer>> slotsById, String id, int slot) {
+        Set<Integer> slots = slotsById.get(id);
+        if (slots != null && slots.remove(slot) && slots.isEmpty()) {
+            slotsById.remove(id);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package repository.file;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// [ HashIndex 클래스 설명 ]
+// - HashIndex는 ID(키) -> 슬롯 번호를 찾기 위한 디스크 위의 해시 테이블로, MappedTable과 같이 파일 전체를 매핑해 씁니다.
+// - open addressing(선형 탐색) 방식이며, 키는 [byte 길이][바이트] 형태의 고정 길이 칸에 보관합니다.
+
+// [ 파일 구성 ]
+// - 헤더(64 byte) : [int MAGIC][int 키 크기][int 칸 수][int 키 수][int 사용한 칸 수(삭제 표시 포함)]
+// - 칸            : [int 슬롯+1 (0=빈칸, -1=삭제 표시)][키]
+
+// [ 메모 ]
+// - 새 파일은 0으로 채워져 있으므로, 슬롯 번호에 1을 더해 보관해서 "0 = 빈칸"이 되도록 했슴다.
+// - 사용한 칸이 70%를 넘으면 새 파일에 다시 해싱한 뒤 이름을 바꿔 교체합니다. (도중에 죽어도 이전 파일은 그대로)
+// - 스레드 안전하지 않으므로 FileStore의 lock 안에서만 사용합니다.
+
+final class HashIndex {
+    private static final int MAGIC = 0x504D5449; // [메모] "PMTI"
+    private static final int HEADER_BYTES = 64;
+    private static final int H_KEY_BYTES = 4;
+    private static final int H_CAPACITY = 8;
+    private static final int H_SIZE = 12;
+    private static final int H_USED = 16;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+    static final int NOT_FOUND = -1;
+
+    private final Path path;
+    private final int keyBytes;
+    private final int entryBytes;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+
+    private HashIndex(Path path, int keyBytes) {
+        this.path = path;
+        this.keyBytes = keyBytes;
+        this.entryBytes = Integer.BYTES + keyBytes;
+    }
+
+    static HashIndex open(Path path, int keyBytes) throws IOException {
+        HashIndex index = new HashIndex(path, keyBytes);
+        index.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (index.channel.size() == 0) {
+            index.init(INITIAL_CAPACITY);
+            return index;
+        }
+        index.buffer = index.channel.map(FileChannel.MapMode.READ_WRITE, 0, index.channel.size());
+        if (index.buffer.getInt(0) != MAGIC || index.buffer.getInt(H_KEY_BYTES) != keyBytes) {
+            index.channel.close();
+            throw new IOException("형식이 다른 인덱스 파일입니다 : " + path);
+        }
+        index.capacity = index.buffer.getInt(H_CAPACITY);
+        return index;
+    }
+
+    /* 키의 슬롯 번호 (없으면 NOT_FOUND) */
+    int get(byte[] key) {
+        int at = find(key);
+        return at < 0 ? NOT_FOUND : buffer.getInt(entryOffset(at)) - 1;
+    }
+
+    /* 키 추가 (없는 키라는 것은 호출자가 확인) */
+    void put(byte[] key, int slot) throws IOException {
+        if ((buffer.getInt(H_USED) + 1) * 10L > capacity * 7L) {
+            rehash();
+        }
+        int at = probeStart(key);
+        while (true) {
+            int state = buffer.getInt(entryOffset(at));
+            if (state == EMPTY || state == DELETED) {
+                int offset = entryOffset(at);
+                buffer.put(offset + Integer.BYTES, key);
+                buffer.putInt(offset, slot + 1);
+                buffer.putInt(H_SIZE, buffer.getInt(H_SIZE) + 1);
+                if (state == EMPTY) {
+                    buffer.putInt(H_USED, buffer.getInt(H_USED) + 1);
+                }
+                return;
+            }
+            at = (at + 1) & (capacity - 1);
+        }
+    }
+
+    /* 키 삭제 (삭제 표시만 남기고, 탐색이 끊기지 않도록 빈칸으로 되돌리지 않음) */
+    void remove(byte[] key) {
+        int at = find(key);
+        if (at >= 0) {
+            buffer.putInt(entryOffset(at), DELETED);
+            buffer.putInt(H_SIZE, buffer.getInt(H_SIZE) - 1);
+        }
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    // [메모] 키가 있는 칸 번호 (없으면 -1)
+    private int find(byte[] key) {
+        int at = probeStart(key);
+        for (int probes = 0; probes < capacity; probes++) {
+            int state = buffer.getInt(entryOffset(at));
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state != DELETED && Fields.keyEquals(buffer, entryOffset(at) + Integer.BYTES, key)) {
+                return at;
+            }
+            at = (at + 1) & (capacity - 1);
+        }
+        return -1;
+    }
+
+    private int probeStart(byte[] key) {
+        int hash = 1;
+        for (int i = 0; i <= key[0]; i++) {
+            hash = 31 * hash + key[i];
+        }
+        hash ^= hash >>> 16;
+        return hash & (capacity - 1);
+    }
+
+    private int entryOffset(int at) {
+        return HEADER_BYTES + at * entryBytes;
+    }
+
+    private void init(int newCapacity) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) newCapacity * entryBytes);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(H_KEY_BYTES, keyBytes);
+        buffer.putInt(H_CAPACITY, newCapacity);
+        buffer.putInt(H_SIZE, 0);
+        buffer.putInt(H_USED, 0);
+        capacity = newCapacity;
+    }
+
+    /* 새 파일에 살아있는 키만 다시 넣고 교체 (삭제 표시가 많았다면 크기는 그대로) */
+    private void rehash() throws IOException {
+        int size = buffer.getInt(H_SIZE);
+        int newCapacity = (size + 1) * 10L > capacity * 5L ? capacity * 2 : capacity;
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(tmp);
+        HashIndex rebuilt = new HashIndex(tmp, keyBytes);
+        rebuilt.channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        rebuilt.init(newCapacity);
+        byte[] key = new byte[keyBytes];
+        for (int at = 0; at < capacity; at++) {
+            int state = buffer.getInt(entryOffset(at));
+            if (state != EMPTY && state != DELETED) {
+                buffer.get(entryOffset(at) + Integer.BYTES, key);
+                rebuilt.put(key, state - 1);
+            }
+        }
+        rebuilt.force();
+        rebuilt.channel.close();
+        channel.close();
+
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        capacity = newCapacity;
+    }
+}
@@ -0,0 +1,138 @@
+package repository.file;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// [ MappedTable 클래스 설명 ]
+// - MappedTable은 고정 길이 레코드들을 파일 하나에 슬롯 단위로 보관하고, 파일 전체를 MappedByteBuffer로 매핑해 쓰는 클래스임다.
+// - 레코드 내용은 호출자(FileStore)가 recordOffset() 위치에 직접 읽고 쓰며, MappedTable은 슬롯의 할당 / 반납만 관리합니다.
+
+// [ 파일 구성 ]
+// - 헤더(64 byte) : [int MAGIC][int 레코드 크기][int 사용한 슬롯 수][int free-list 머리][int 살아있는 레코드 수]
+// - 슬롯          : [byte 상태(0=빈칸, 1=사용 중)][int 다음 빈 슬롯][레코드]
+
+// [ 메모 ]
+// - 삭제된 슬롯은 free-list에 연결해 두었다가 다음 allocate()에서 먼저 재사용합니다.
+// - 공간이 모자라면 두 배 크기로 다시 매핑합니다. (이전 매핑도 같은 페이지를 가리키므로, 이미 꺼내간 buffer로 읽어도 안전)
+// - 열 때 헤더만 확인하고 아무것도 읽어 들이지 않으므로, 파일 크기와 상관없이 바로 열립니다.
+// - allocate() 후 markLive() 전에 프로세스가 죽으면 그 슬롯은 빈칸도 사용 중도 아닌 채로 남습니다. (공간만 조금 낭비됨)
+// - 스레드 안전하지 않으므로 FileStore의 lock 안에서만 사용합니다.
+
+final class MappedTable {
+    private static final int MAGIC = 0x504D5446; // [메모] "PMTF"
+    private static final int HEADER_BYTES = 64;
+    private static final int H_RECORD_BYTES = 4;
+    private static final int H_HIGH_WATER = 8;
+    private static final int H_FREE_HEAD = 12;
+    private static final int H_LIVE = 16;
+    private static final int SLOT_HEADER_BYTES = 5;
+    private static final int INITIAL_SLOTS = 256;
+    private static final byte FREE = 0;
+    private static final byte LIVE = 1;
+    private static final int NO_SLOT = -1;
+
+    private final FileChannel channel;
+    private final int recordBytes;
+    private final int slotBytes;
+    private MappedByteBuffer buffer;
+    private int capacity;
+
+    private MappedTable(FileChannel channel, int recordBytes) {
+        this.channel = channel;
+        this.recordBytes = recordBytes;
+        this.slotBytes = SLOT_HEADER_BYTES + recordBytes;
+    }
+
+    static MappedTable open(Path path, int recordBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedTable table = new MappedTable(channel, recordBytes);
+        if (channel.size() == 0) {
+            table.map(INITIAL_SLOTS);
+            table.buffer.putInt(0, MAGIC);
+            table.buffer.putInt(H_RECORD_BYTES, recordBytes);
+            table.buffer.putInt(H_HIGH_WATER, 0);
+            table.buffer.putInt(H_FREE_HEAD, NO_SLOT);
+            table.buffer.putInt(H_LIVE, 0);
+            return table;
+        }
+        table.map((int) ((channel.size() - HEADER_BYTES) / table.slotBytes));
+        if (table.buffer.getInt(0) != MAGIC || table.buffer.getInt(H_RECORD_BYTES) != recordBytes) {
+            channel.close();
+            throw new IOException("레코드 형식이 다른 파일입니다 : " + path);
+        }
+        return table;
+    }
+
+    /* 레코드를 직접 읽고 쓸 buffer (absolute get/put 전용) */
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    /* 지금까지 사용한 슬롯 수 (0 ~ highWater()-1 범위만 살펴보면 됨) */
+    int highWater() {
+        return buffer.getInt(H_HIGH_WATER);
+    }
+
+    int recordBytes() {
+        return recordBytes;
+    }
+
+    int liveCount() {
+        return buffer.getInt(H_LIVE);
+    }
+
+    boolean isLive(int slot) {
+        return buffer.get(slotOffset(slot)) == LIVE;
+    }
+
+    int recordOffset(int slot) {
+        return slotOffset(slot) + SLOT_HEADER_BYTES;
+    }
+
+    /* 빈 슬롯 하나 확보 (free-list 우선, 없으면 끝에 추가), 레코드를 쓴 뒤 markLive() 필요 */
+    int allocate() throws IOException {
+        int slot = buffer.getInt(H_FREE_HEAD);
+        if (slot != NO_SLOT) {
+            buffer.putInt(H_FREE_HEAD, buffer.getInt(slotOffset(slot) + 1));
+            return slot;
+        }
+        slot = highWater();
+        if (slot == capacity) {
+            map(capacity * 2);
+        }
+        buffer.putInt(H_HIGH_WATER, slot + 1);
+        return slot;
+    }
+
+    void markLive(int slot) {
+        buffer.put(slotOffset(slot), LIVE);
+        buffer.putInt(H_LIVE, liveCount() + 1);
+    }
+
+    /* 슬롯 반납 (free-list 머리에 연결) */
+    void release(int slot) {
+        int offset = slotOffset(slot);
+        buffer.put(offset, FREE);
+        buffer.putInt(offset + 1, buffer.getInt(H_FREE_HEAD));
+        buffer.putInt(H_FREE_HEAD, slot);
+        buffer.putInt(H_LIVE, liveCount() - 1);
+    }
+
+    /* 변경 내용을 디스크에 내려씀 */
+    void force() {
+        buffer.force();
+    }
+
+    private int slotOffset(int slot) {
+        return HEADER_BYTES + slot * slotBytes;
+    }
+
+    private void map(int slots) throws IOException {
+        // [메모] READ_WRITE 매핑은 파일보다 크면 파일을 그만큼 늘려줌
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) slots * slotBytes);
+        capacity = slots;
+    }
+}
@@ -0,0 +1,64 @@
+package repository.jdbc;
+
+import repository.IdSequence;
+import repository.IdSequenceRepository;
+import repository.MakeConnection;
+import repository.query.NamedStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [ JdbcIdSequenceRepository 클래스 설명 ]
+// - id_sequence 테이블(MySQL)을 저장소로 쓰는 IdSequenceRepository 구현체입니다.
+// - 직접 부르지 않고 IdSequenceRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 jdbc일 때 선택됨)
+
+// [ id_sequence ]
+// - name VARCHAR(16) PRIMARY KEY / next_id BIGINT : 순번마다 다음에 예약될 번호
+
+// [ 메모 ]
+// - 테이블과 행이 없다면 처음 예약할 때 만들고, 시작 번호는 projects / members의 가장 큰 ID 다음 번호로 정합니다.
+// - 예약은 "UPDATE ... next_id = LAST_INSERT_ID(next_id + size)" 한 문장이라, 여러 프로세스가 동시에 예약해도 행 lock으로 구간이 겹치지 않슴다.
+// - 진행 중인 UnitOfWork와 별개의 Connection(autoCommit)으로 실행합니다.
+//   -> 업무 저장이 rollback 돼도 예약된 구간은 그대로 쓰이고, 예약이 바깥 트랜잭션의 lock을 오래 붙잡지 않음
+
+public class JdbcIdSequenceRepository implements IdSequenceRepository {
+    private static final JdbcIdSequenceRepository instance = new JdbcIdSequenceRepository();
+    private JdbcIdSequenceRepository() {}
+    public static JdbcIdSequenceRepository getInstance() { return instance; }
+
+    private final Set<IdSequence> seeded = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public long reserve(IdSequence sequence, int size) throws SQLException {
+        // [메모] MakeConnection.getConnection()은 UnitOfWork의 Connection을 돌려주므로 Pool에서 직접 빌림
+        try (Connection conn = MakeConnection.getDataSource().getConnection()) {
+            // [1] 테이블 / 행이 없다면 기존 데이터의 가장 큰 ID 다음 번호로 시작
+            if (!seeded.contains(sequence)) {
+                execute(conn, NamedStatement.SEQUENCE_CREATE.getSql());
+                execute(conn, (sequence == IdSequence.TASK ? NamedStatement.SEQUENCE_SEED_TASK : NamedStatement.SEQUENCE_SEED_MEMBER).getSql());
+                seeded.add(sequence);
+            }
+            // [2] size만큼 올리고, 올린 값을 이 Connection의 LAST_INSERT_ID()로 받아옴
+            try (PreparedStatement pstmt = conn.prepareStatement(NamedStatement.SEQUENCE_RESERVE.getSql())) {
+                pstmt.setInt(1, size);
+                pstmt.setString(2, sequence.getName());
+                pstmt.executeUpdate();
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(NamedStatement.SEQUENCE_LAST_RESERVED.getSql());
+                 ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getLong(1) - size;
+            }
+        }
+    }
+
+    private static void execute(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.executeUpdate();
+        }
+    }
+}
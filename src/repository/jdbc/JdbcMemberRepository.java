@@ -0,0 +1,109 @@
+package repository.jdbc;
+
+import configs.message.Ingredient;
+import model.team.Member;
+import repository.MemberRepository;
+import repository.query.Binders;
+import repository.query.Mappers;
+import repository.query.MemberQuery;
+import repository.query.NamedStatement;
+import repository.query.QueryExecutor;
+import utils.LogRecorder;
+import utils.Pair;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+// [ JdbcMemberRepository 클래스 설명 ]
+// - members 테이블(MySQL)을 저장소로 쓰는 MemberRepository 구현체입니다.
+// - 직접 부르지 않고 MemberRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 jdbc일 때 선택됨)
+
+public class JdbcMemberRepository implements MemberRepository {
+    private static JdbcMemberRepository instance;
+
+    private JdbcMemberRepository(){};
+    public static JdbcMemberRepository getInstance(){
+        if(instance == null){
+            instance = new JdbcMemberRepository();
+        }
+        return instance;
+    }
+
+    public void save(Member member) throws SQLException{
+        // mid, name, auth
+        QueryExecutor.update(NamedStatement.MEMBER_INSERT.getSql(), Binders.MEMBER_INSERT, member);
+    }
+
+    @Override
+    public void saveAll(Collection<Member> members) throws SQLException {
+        QueryExecutor.batch(NamedStatement.MEMBER_INSERT.getSql(), members, Binders.MEMBER_INSERT);
+    }
+
+    public Member findById(String id) throws SQLException {
+        return QueryExecutor.queryOne(NamedStatement.MEMBER_FIND_BY_ID.getSql(), Binders.ID, id, Mappers.MEMBER);
+    }
+    public Collection< Member> findAll() throws SQLException{
+        return QueryExecutor.queryList(NamedStatement.MEMBER_FIND_ALL.getSql(), Mappers.MEMBER);
+    }
+
+    @Override
+    public Stream<Member> streamAll(int fetchSize) throws SQLException {
+        return QueryExecutor.stream(NamedStatement.MEMBER_FIND_ALL.getSql(), Mappers.MEMBER, fetchSize);
+    }
+
+    @Override
+    public List<Member> findPage(String afterId, int limit) throws SQLException {
+        return QueryExecutor.queryList(NamedStatement.MEMBER_FIND_PAGE.getSql(), Binders.PAGE, new Pair<>(afterId, limit), Mappers.MEMBER);
+    }
+
+    /* MemberQuery의 조건에 부합하는 팀원만 조회 (필터링은 DB에서 수행) */
+    @Override
+    public Collection<Member> findByQuery(MemberQuery memberQuery) throws SQLException {
+        return QueryExecutor.queryList(memberQuery.toSql(), (pstmt, query) -> query.bind(pstmt), memberQuery, Mappers.MEMBER);
+    }
+
+    /* findByQuery()의 Stream 버전 (fetchSize 행씩 받아오며, 다 쓴 뒤 close() 필수) */
+    @Override
+    public Stream<Member> streamByQuery(MemberQuery memberQuery, int fetchSize) throws SQLException {
+        return QueryExecutor.stream(memberQuery.toSql(), (pstmt, query) -> query.bind(pstmt), memberQuery, Mappers.MEMBER, fetchSize);
+    }
+
+    public void update(Member member) throws SQLException {
+        QueryExecutor.update(NamedStatement.MEMBER_UPDATE.getSql(), Binders.MEMBER_UPDATE, member);
+    }
+
+    @Override
+    public void updateAll(Collection<Member> members) throws SQLException {
+        QueryExecutor.batch(NamedStatement.MEMBER_UPDATE.getSql(), members, Binders.MEMBER_UPDATE);
+    }
+
+    public void deleteById(String id) throws SQLException{
+        QueryExecutor.update(NamedStatement.MEMBER_DELETE.getSql(), Binders.ID, id);
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> ids) throws SQLException {
+        QueryExecutor.batch(NamedStatement.MEMBER_DELETE.getSql(), ids, Binders.ID);
+    }
+    public boolean existsById(String id){
+        try {
+            return QueryExecutor.exists(NamedStatement.MEMBER_EXISTS.getSql(), Binders.ID, id);
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"Member 존재 검사");
+            return false;
+        }
+    }
+
+    @Override
+    public int count() {
+        try {
+            Integer count = QueryExecutor.queryOne(NamedStatement.MEMBER_COUNT.getSql(), rs -> rs.getInt(1));
+            return count == null ? 0 : count;
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"멤버 계수");
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package repository.jdbc;
+
+import configs.message.Ingredient;
+import configs.project.TaskStatus;
+import managers.ConverterManager;
+import model.project.Task;
+import repository.ProjectRepository;
+import repository.query.Binders;
+import repository.query.Mappers;
+import repository.query.NamedStatement;
+import repository.query.QueryExecutor;
+import repository.query.TaskQuery;
+import utils.LogRecorder;
+import utils.Pair;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Stream;
+
+// [ JdbcProjectRepository 클래스 설명 ]
+// - projects 테이블(MySQL)을 저장소로 쓰는 ProjectRepository 구현체입니다.
+// - 직접 부르지 않고 ProjectRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 jdbc일 때 선택됨)
+
+public class JdbcProjectRepository implements ProjectRepository {
+    private static final JdbcProjectRepository instance = new JdbcProjectRepository();
+    public static JdbcProjectRepository getInstance() {
+        return instance;
+    }
+// projects
+//    id          VARCHAR(10)   PRIMARY KEY,     -- 프로젝트 ID (예: p01)
+//    name 	   	  VARCHAR(20) NOT NULL,
+//    type        VARCHAR(30)   ,        -- 프로젝트 유형
+//    status      VARCHAR(20)   ,        -- 상태 (진행중, 완료 등)
+//    start_date  DATE NOT NULL DEFAULT (current_date),
+//    end_date    DATE
+
+    @Override
+    public void save(Task entity) throws SQLException {
+        QueryExecutor.update(NamedStatement.TASK_INSERT.getSql(), Binders.TASK_INSERT, entity);
+    }
+
+    @Override
+    public void saveAll(Collection<Task> entities) throws SQLException {
+        QueryExecutor.batch(NamedStatement.TASK_INSERT.getSql(), entities, Binders.TASK_INSERT);
+    }
+
+    @Override
+    public Task findById(String eid) throws SQLException {
+        return QueryExecutor.queryOne(NamedStatement.TASK_FIND_BY_ID.getSql(), Binders.ID, eid, Mappers.TASK);
+    }
+
+    @Override
+    public void deleteById(String eid) throws SQLException {
+        QueryExecutor.update(NamedStatement.TASK_DELETE.getSql(), Binders.ID, eid);
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> eids) throws SQLException {
+        QueryExecutor.batch(NamedStatement.TASK_DELETE.getSql(), eids, Binders.ID);
+    }
+
+    @Override
+    public void update(Task entity) throws SQLException {
+        QueryExecutor.update(NamedStatement.TASK_UPDATE.getSql(), Binders.TASK_UPDATE, entity);
+    }
+
+    @Override
+    public void updateAll(Collection<Task> entities) throws SQLException {
+        QueryExecutor.batch(NamedStatement.TASK_UPDATE.getSql(), entities, Binders.TASK_UPDATE);
+    }
+
+    @Override
+    public Collection<Task> findAll() throws SQLException {
+        try {
+            return QueryExecutor.queryList(NamedStatement.TASK_FIND_ALL.getSql(), Mappers.TASK);
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"findAll()");
+            return new ArrayList<>();
+        }
+    }
+
+    @Override
+    public Stream<Task> streamAll(int fetchSize) throws SQLException {
+        return QueryExecutor.stream(NamedStatement.TASK_FIND_ALL.getSql(), Mappers.TASK, fetchSize);
+    }
+
+    @Override
+    public List<Task> findPage(String afterId, int limit) throws SQLException {
+        return QueryExecutor.queryList(NamedStatement.TASK_FIND_PAGE.getSql(), Binders.PAGE, new Pair<>(afterId, limit), Mappers.TASK);
+    }
+
+    @Override
+    public boolean existsById(String eid){
+        try {
+            return QueryExecutor.exists(NamedStatement.TASK_EXISTS.getSql(), Binders.ID, eid);
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"Project 존재 검사");
+            return false;
+        }
+    }
+
+    @Override
+    public int count(){
+        try {
+            Integer count = QueryExecutor.queryOne(NamedStatement.TASK_COUNT.getSql(), rs -> rs.getInt(1));
+            return count == null ? 0 : count;
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"Projects 계수");
+            return 0;
+        }
+    }
+
+    /* TaskQuery의 조건에 부합하는 업무만 조회 (필터링은 DB에서 수행) */
+    @Override
+    public List<Task> findByQuery(TaskQuery taskQuery) throws SQLException {
+        return QueryExecutor.queryList(taskQuery.toSql(), (pstmt, query) -> query.bind(pstmt), taskQuery, Mappers.TASK);
+    }
+
+    /* findByQuery()의 Stream 버전 (fetchSize 행씩 받아오며, 다 쓴 뒤 close() 필수) */
+    @Override
+    public Stream<Task> streamByQuery(TaskQuery taskQuery, int fetchSize) throws SQLException {
+        return QueryExecutor.stream(taskQuery.toSql(), (pstmt, query) -> query.bind(pstmt), taskQuery, Mappers.TASK, fetchSize);
+    }
+
+    /* 업무 상태별 개수를 GROUP BY 한 번으로 집계 (모든 상태가 0 이상으로 채워진 EnumMap 반환) */
+    @Override
+    public EnumMap<TaskStatus, Integer> countByStatus() throws SQLException {
+        EnumMap<TaskStatus, Integer> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0);
+        }
+        List<Pair<TaskStatus, Integer>> rows = QueryExecutor.queryList(NamedStatement.TASK_COUNT_BY_STATUS.getSql(),
+                rs -> new Pair<>(ConverterManager.stringTaskStatus.convertTo(rs.getString(1)), rs.getInt(2)));
+        for (Pair<TaskStatus, Integer> row : rows) {
+            counts.merge(row.getKey(), row.getValue(), Integer::sum);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,137 @@
+package repository.jdbc;
+
+import configs.message.Ingredient;
+import model.ProjectTeam;
+import model.project.Task;
+import repository.ProjectTeamRepository;
+import repository.query.Binders;
+import repository.query.Mappers;
+import repository.query.NamedStatement;
+import repository.query.QueryExecutor;
+import repository.query.RowMapper;
+import utils.LogRecorder;
+import utils.Pair;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// [ JdbcProjectTeamRepository 클래스 설명 ]
+// - project_team 테이블(MySQL)을 저장소로 쓰는 ProjectTeamRepository 구현체입니다.
+// - 직접 부르지 않고 ProjectTeamRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 jdbc일 때 선택됨)
+
+public class JdbcProjectTeamRepository implements ProjectTeamRepository {
+    private static final JdbcProjectTeamRepository instance = new JdbcProjectTeamRepository();
+    private JdbcProjectTeamRepository() {}
+    public static JdbcProjectTeamRepository getInstance() { return instance; }
+
+    // [메모] "pt.mid, p.id, p.name, ..." 순서라 projects 컬럼은 한 칸 밀려서 시작
+    private static final RowMapper<Pair<String, Task>> MEMBER_TASK =
+            rs -> new Pair<>(rs.getString(1), Mappers.task(1).map(rs));
+
+    @Override
+    public void addMemberToProject(String projectId, String memberId) throws SQLException {
+        QueryExecutor.update(NamedStatement.LINK_INSERT.getSql(), Binders.LINK, new ProjectTeam(projectId, memberId));
+    }
+
+    /* (업무ID, 팀원ID) 쌍들을 한 번의 batch로 연결 */
+    @Override
+    public void addMembersToProjects(Collection<ProjectTeam> links) throws SQLException {
+        QueryExecutor.batch(NamedStatement.LINK_INSERT.getSql(), links, Binders.LINK);
+    }
+
+    @Override
+    public void removeMemberFromProject(String projectId, String memberId) throws SQLException {
+        QueryExecutor.update(NamedStatement.LINK_DELETE.getSql(), Binders.LINK, new ProjectTeam(projectId, memberId));
+    }
+
+    /* (업무ID, 팀원ID) 쌍들의 연결을 한 번의 batch로 해제 */
+    @Override
+    public void removeMembersFromProjects(Collection<ProjectTeam> links) throws SQLException {
+        QueryExecutor.batch(NamedStatement.LINK_DELETE.getSql(), links, Binders.LINK);
+    }
+
+    /* 업무 하나에 배정된 팀원ID들 조회 */
+    @Override
+    public Set<String> findMemberIdsOf(String projectId) throws SQLException {
+        return new HashSet<>(QueryExecutor.queryList(NamedStatement.LINK_FIND_MEMBER_IDS_BY_TASK.getSql(),
+                Binders.ID, projectId, rs -> rs.getString(1)));
+    }
+
+    /* 팀원 한 명에게 배정된 업무ID들 조회 */
+    @Override
+    public Set<String> findProjectIdsOf(String memberId) throws SQLException {
+        return new HashSet<>(QueryExecutor.queryList(NamedStatement.LINK_FIND_TASK_IDS_BY_MEMBER.getSql(),
+                Binders.ID, memberId, rs -> rs.getString(1)));
+    }
+
+    /* 팀원 한 명의 담당 업무들을 JOIN 한 번으로 조회 */
+    @Override
+    public Set<Task> findProjectbyMember(String memberId) throws SQLException {
+        return new HashSet<>(QueryExecutor.queryList(NamedStatement.LINK_FIND_TASKS_BY_MEMBER.getSql(),
+                Binders.ID, memberId, Mappers.TASK));
+    }
+
+    /* 여러 팀원의 담당 업무들을 한 문장으로 조회 (팀원ID -> 담당 업무 Set) */
+    @Override
+    public Map<String, Set<Task>> findProjectsByMembers(Collection<String> memberIds) throws SQLException {
+        // [1] 요청한 팀원은 담당 업무가 없더라도 빈 Set을 갖도록 초기화
+        Map<String, Set<Task>> tasksByMember = new LinkedHashMap<>();
+        for (String memberId : memberIds) {
+            tasksByMember.put(memberId, new HashSet<>());
+        }
+        if (tasksByMember.isEmpty()) {
+            return tasksByMember;
+        }
+
+        // [2] IN 절로 한 번에 조회 후 팀원ID별로 분배
+        String placeholders = String.join(",", Collections.nCopies(tasksByMember.size(), "?"));
+        String sql = "SELECT pt.mid, " + Mappers.taskColumns("p")
+                + " FROM project_team pt JOIN projects p ON p.id = pt.pid WHERE pt.mid IN (" + placeholders + ")";
+        List<Pair<String, Task>> rows = QueryExecutor.queryList(sql, (pstmt, ids) -> {
+            int index = 1;
+            for (String memberId : ids) {
+                pstmt.setString(index++, memberId);
+            }
+        }, tasksByMember.keySet(), MEMBER_TASK);
+        for (Pair<String, Task> row : rows) {
+            tasksByMember.get(row.getKey()).add(row.getValue());
+        }
+        return tasksByMember;
+    }
+
+    /* 담당 업무가 있는 팀원 수와 전체 팀원 수를 한 번에 집계 (담당업무 보유 팀원 수, 전체 팀원 수) */
+    @Override
+    public Pair<Integer, Integer> countAssignment() throws SQLException {
+        Pair<Integer, Integer> counts = QueryExecutor.queryOne(NamedStatement.LINK_COUNT_ASSIGNMENT.getSql(),
+                rs -> new Pair<>(rs.getInt(1), rs.getInt(2)));
+        return counts == null ? new Pair<>(0, 0) : counts;
+    }
+
+    @Override
+    public Map<String, Integer> countTasksByMember() throws SQLException {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Pair<String, Integer> row : QueryExecutor.queryList(NamedStatement.LINK_COUNT_BY_MEMBER.getSql(),
+                rs -> new Pair<>(rs.getString(1), rs.getInt(2)))) {
+            counts.put(row.getKey(), row.getValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean exists(String projectId, String memberId) {
+        try {
+            return QueryExecutor.exists(NamedStatement.LINK_EXISTS.getSql(), Binders.LINK, new ProjectTeam(projectId, memberId));
+        } catch (SQLException e) {
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL,"존재 검사");
+            return false;
+        }
+    }
+
+}
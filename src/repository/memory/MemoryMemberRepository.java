@@ -0,0 +1,107 @@
+package repository.memory;
+
+import model.team.Member;
+import repository.MemberRepository;
+import repository.query.MemberQuery;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+// [ MemoryMemberRepository 클래스 설명 ]
+// - MemoryStore를 저장소로 쓰는 MemberRepository 구현체입니다.
+// - 직접 부르지 않고 MemberRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 memory일 때 선택됨)
+// - 각 메서드는 JdbcMemberRepository와 같은 결과를 내도록 맞춰져 있습니다.
+
+public class MemoryMemberRepository implements MemberRepository {
+    private static final MemoryMemberRepository instance = new MemoryMemberRepository();
+    public static MemoryMemberRepository getInstance() {
+        return instance;
+    }
+
+    private final MemoryStore store = MemoryStore.getInstance();
+
+    private MemoryMemberRepository() {}
+
+    @Override
+    public void save(Member entity) throws SQLException {
+        saveAll(List.of(entity));
+    }
+
+    @Override
+    public void saveAll(Collection<Member> entities) throws SQLException {
+        List<Member> copies = entities.stream().map(MemoryStore::copy).toList();
+        MemoryStore.write(Mutation.insertMembers(copies));
+    }
+
+    @Override
+    public Member findById(String id) {
+        Member member = store.members.get(id);
+        return member == null ? null : MemoryStore.copy(member);
+    }
+
+    @Override
+    public void deleteById(String id) throws SQLException {
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> ids) throws SQLException {
+        MemoryStore.write(Mutation.deleteMembers(List.copyOf(ids)));
+    }
+
+    @Override
+    public void update(Member entity) throws SQLException {
+        updateAll(List.of(entity));
+    }
+
+    @Override
+    public void updateAll(Collection<Member> entities) throws SQLException {
+        List<Member> changes = entities.stream().map(MemoryStore::copy).toList();
+        MemoryStore.write(Mutation.updateMembers(changes));
+    }
+
+    @Override
+    public Collection<Member> findAll() {
+        return store.members.values().stream().map(MemoryStore::copy).toList();
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return store.members.containsKey(id);
+    }
+
+    @Override
+    public int count() {
+        return store.members.size();
+    }
+
+    @Override
+    public Stream<Member> streamAll(int fetchSize) {
+        return store.members.values().stream().map(MemoryStore::copy);
+    }
+
+    @Override
+    public List<Member> findPage(String afterId, int limit) {
+        return store.members.tailMap(afterId == null ? "" : afterId, false).values().stream()
+                .limit(limit)
+                .map(MemoryStore::copy)
+                .toList();
+    }
+
+    @Override
+    public Collection<Member> findByQuery(MemberQuery memberQuery) {
+        try (Stream<Member> members = streamByQuery(memberQuery, 0)) {
+            return new ArrayList<>(members.toList());
+        }
+    }
+
+    @Override
+    public Stream<Member> streamByQuery(MemberQuery memberQuery, int fetchSize) {
+        return store.members.values().stream()
+                .filter(member -> memberQuery.matches(member, store::hasTasks))
+                .map(MemoryStore::copy);
+    }
+}
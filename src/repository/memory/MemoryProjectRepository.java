@@ -0,0 +1,123 @@
+package repository.memory;
+
+import configs.project.TaskStatus;
+import model.project.Task;
+import repository.ProjectRepository;
+import repository.query.TaskQuery;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// [ MemoryProjectRepository 클래스 설명 ]
+// - MemoryStore를 저장소로 쓰는 ProjectRepository 구현체입니다.
+// - 직접 부르지 않고 ProjectRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 memory일 때 선택됨)
+// - 각 메서드는 JdbcProjectRepository와 같은 결과를 내도록 맞춰져 있습니다. (수정은 업무명/상태/마감일만 반영 등)
+// - 업무조회와 상태별 개수는 MemoryStore의 보조 인덱스를 사용합니다.
+
+public class MemoryProjectRepository implements ProjectRepository {
+    private static final MemoryProjectRepository instance = new MemoryProjectRepository();
+    public static MemoryProjectRepository getInstance() {
+        return instance;
+    }
+
+    private final MemoryStore store = MemoryStore.getInstance();
+
+    private MemoryProjectRepository() {}
+
+    @Override
+    public void save(Task entity) throws SQLException {
+        saveAll(List.of(entity));
+    }
+
+    @Override
+    public void saveAll(Collection<Task> entities) throws SQLException {
+        List<Task> copies = entities.stream().map(MemoryStore::copy).toList();
+        MemoryStore.write(Mutation.insertTasks(copies));
+    }
+
+    @Override
+    public Task findById(String eid) {
+        Task task = store.tasks.get(eid);
+        return task == null ? null : MemoryStore.copy(task);
+    }
+
+    @Override
+    public void deleteById(String eid) throws SQLException {
+        deleteAllById(List.of(eid));
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> eids) throws SQLException {
+        MemoryStore.write(Mutation.deleteTasks(List.copyOf(eids)));
+    }
+
+    @Override
+    public void update(Task entity) throws SQLException {
+        updateAll(List.of(entity));
+    }
+
+    @Override
+    public void updateAll(Collection<Task> entities) throws SQLException {
+        List<Task> changes = entities.stream().map(MemoryStore::copy).toList();
+        MemoryStore.write(Mutation.updateTasks(changes));
+    }
+
+    @Override
+    public Collection<Task> findAll() {
+        return store.tasks.values().stream().map(MemoryStore::copy).toList();
+    }
+
+    @Override
+    public boolean existsById(String eid) {
+        return store.tasks.containsKey(eid);
+    }
+
+    @Override
+    public int count() {
+        return store.tasks.size();
+    }
+
+    @Override
+    public Stream<Task> streamAll(int fetchSize) {
+        return store.tasks.values().stream().map(MemoryStore::copy);
+    }
+
+    @Override
+    public List<Task> findPage(String afterId, int limit) {
+        return store.tasks.tailMap(afterId == null ? "" : afterId, false).values().stream()
+                .limit(limit)
+                .map(MemoryStore::copy)
+                .toList();
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery taskQuery) {
+        try (Stream<Task> tasks = streamByQuery(taskQuery, 0)) {
+            return new ArrayList<>(tasks.toList());
+        }
+    }
+
+    @Override
+    public Stream<Task> streamByQuery(TaskQuery taskQuery, int fetchSize) {
+        // [메모] 조건별 bitmap의 교집합만 꺼내고, 그 사이 바뀐 업무가 있을 수 있으니 matches()로 한 번 더 확인
+        return store.taskCandidates(taskQuery.getType(), taskQuery.getStatus(), taskQuery.getAssignee()).stream()
+                .map(store.tasks::get)
+                .filter(Objects::nonNull)
+                .filter(task -> taskQuery.matches(task, store::isLinked))
+                .map(MemoryStore::copy);
+    }
+
+    @Override
+    public EnumMap<TaskStatus, Integer> countByStatus() {
+        EnumMap<TaskStatus, Integer> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, store.countOf(status));
+        }
+        return counts;
+    }
+}
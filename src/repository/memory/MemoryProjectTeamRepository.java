@@ -0,0 +1,107 @@
+package repository.memory;
+
+import model.ProjectTeam;
+import model.project.Task;
+import repository.ProjectTeamRepository;
+import utils.Pair;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// [ MemoryProjectTeamRepository 클래스 설명 ]
+// - MemoryStore를 저장소로 쓰는 ProjectTeamRepository 구현체입니다.
+// - 직접 부르지 않고 ProjectTeamRepository.getInstance()를 통해 사용합니다. (DBConfig.STORAGE가 memory일 때 선택됨)
+
+public class MemoryProjectTeamRepository implements ProjectTeamRepository {
+    private static final MemoryProjectTeamRepository instance = new MemoryProjectTeamRepository();
+    public static MemoryProjectTeamRepository getInstance() {
+        return instance;
+    }
+
+    private final MemoryStore store = MemoryStore.getInstance();
+
+    private MemoryProjectTeamRepository() {}
+
+    @Override
+    public void addMemberToProject(String projectId, String memberId) throws SQLException {
+        addMembersToProjects(List.of(new ProjectTeam(projectId, memberId)));
+    }
+
+    @Override
+    public void addMembersToProjects(Collection<ProjectTeam> links) throws SQLException {
+        if (links.isEmpty()) {
+            return;
+        }
+        List<String[]> pairs = toPairs(links);
+        MemoryStore.write(Mutation.link(pairs));
+    }
+
+    @Override
+    public void removeMemberFromProject(String projectId, String memberId) throws SQLException {
+        removeMembersFromProjects(List.of(new ProjectTeam(projectId, memberId)));
+    }
+
+    @Override
+    public void removeMembersFromProjects(Collection<ProjectTeam> links) throws SQLException {
+        if (links.isEmpty()) {
+            return;
+        }
+        List<String[]> pairs = toPairs(links);
+        MemoryStore.write(Mutation.unlink(pairs));
+    }
+
+    @Override
+    public Set<String> findMemberIdsOf(String projectId) {
+        return store.memberIdsOf(projectId);
+    }
+
+    @Override
+    public Set<String> findProjectIdsOf(String memberId) {
+        return store.taskIdsOf(memberId);
+    }
+
+    @Override
+    public Set<Task> findProjectbyMember(String memberId) {
+        Set<Task> tasks = new HashSet<>();
+        for (String tid : store.taskIdsOf(memberId)) {
+            Task task = store.tasks.get(tid);
+            if (task != null) {
+                tasks.add(MemoryStore.copy(task));
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public Map<String, Set<Task>> findProjectsByMembers(Collection<String> memberIds) {
+        Map<String, Set<Task>> tasksByMember = new LinkedHashMap<>();
+        for (String memberId : memberIds) {
+            tasksByMember.put(memberId, findProjectbyMember(memberId));
+        }
+        return tasksByMember;
+    }
+
+    @Override
+    public Pair<Integer, Integer> countAssignment() {
+        return new Pair<>(store.assignedMemberCount(), store.members.size());
+    }
+
+    @Override
+    public Map<String, Integer> countTasksByMember() {
+        return store.taskCountsByMember();
+    }
+
+    @Override
+    public boolean exists(String projectId, String memberId) {
+        return store.isLinked(projectId, memberId);
+    }
+
+    private static List<String[]> toPairs(Collection<ProjectTeam> links) {
+        return links.stream().map(link -> new String[]{link.getTaskID(), link.getMemberID()}).toList();
+    }
+}
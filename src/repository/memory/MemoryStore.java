@@ -0,0 +1,463 @@
+package repository.memory;
+
+import configs.project.TaskStatus;
+import configs.project.TaskType;
+import configs.repository.DBConfig;
+import model.project.Task;
+import model.team.Member;
+import repository.UnitOfWork;
+import utils.bitmap.CompressedBitmap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// [ MemoryStore 클래스 설명 ]
+// - MemoryStore는 메모리 저장소 엔진의 실제 데이터 보관함으로, 세 Memory*Repository가 하나를 공유합니다.
+// - projects / members 테이블은 ID 순으로 정렬된 ConcurrentSkipListMap, project_team 테이블은 양방향 인덱스로 보관합니다.
+// - 엔티티는 복사본으로 보관하고 복사본으로 돌려주어, JDBC 구현체처럼 호출자가 고친 인스턴스가 저장소에 바로 반영되지 않습니다.
+
+// [ 메모 ]
+// - 정렬된 Map을 써서, 조회 순서와 findPage()의 keyset 순서가 MySQL의 기본키 순서와 같습니다.
+// - project_team은 두 인덱스를 함께 고쳐야 하므로 ReadWriteLock으로 보호합니다. (조회끼리는 동시에 가능)
+// - 업무/팀원 삭제 시 해당 배정도 함께 지웁니다. (FK ON DELETE CASCADE와 같은 동작)
+// - 없는 업무/팀원에 대한 배정, 중복 ID 저장은 MySQL처럼 SQLIntegrityConstraintViolationException으로 거절합니다.
+// - 모든 쓰기는 Mutation으로 만들어 submit()을 거칩니다. commitLock 안에서 검사 -> WAL 기록 -> 반영 순서로 처리해, WAL 순서와 반영 순서가 같슴다.
+// - UnitOfWork 안의 쓰기들은 Batch 하나에 모였다가 submitAll()로 한 번에 처리합니다. (commitLock을 끝까지 잡으므로 다른 쓰기가 끼어들지 않음)
+//   -> 하나라도 실패하면 앞서 반영한 쓰기들을 undoFor()로 거꾸로 되돌리고, WAL엔 아무것도 남기지 않슴다.
+// - 업무마다 조밀한 번호(ordinal)를 매기고, 상태 / 유형 / 담당자별로 ordinal의 CompressedBitmap을 보조 인덱스로 유지합니다.
+//   -> 업무조회는 조건별 bitmap을 작은 것부터 AND 하므로, 전체 업무 수가 아닌 bitmap 크기에 비례합니다. (taskCandidates() 참고)
+//   -> 홈 화면의 상태별 개수 / 배정된 팀원 수도 bitmap의 원소 수로 바로 구합니다.
+// - lock 순서는 linkLock -> indexLock 입니다. (배정이 바뀌면 담당자 bitmap도 함께 고치므로)
+// - DBConfig.WAL_ENABLED가 켜져 있으면 생성 시 WAL_DIR의 스냅샷과 WAL로 이전 상태를 복구하고, 쓰기는 fsync 된 뒤에 완료됩니다. (WriteAheadLog 참고)
+
+class MemoryStore {
+    private static final MemoryStore instance = new MemoryStore();
+    static MemoryStore getInstance() {
+        return instance;
+    }
+
+    // [메모] 마감일이 보류된 업무는 JDBC 구현체와 같게 9999-12-31로 보관
+    private static final LocalDate NO_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    final ConcurrentSkipListMap<String, Task> tasks = new ConcurrentSkipListMap<>();
+    final ConcurrentSkipListMap<String, Member> members = new ConcurrentSkipListMap<>();
+
+    // [ 보조 인덱스 ] 업무 쓰기는 putTask() / removeTask()만 거치므로 commitLock 안에서 함께 갱신됨
+    // [메모] 삭제된 업무의 ordinal은 freeOrdinals로 돌려받아 재사용하므로, ordinal이 업무 수 이상으로 벌어지지 않음
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> tidsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final EnumMap<TaskStatus, CompressedBitmap> tasksByStatus = new EnumMap<>(TaskStatus.class);
+    private final EnumMap<TaskType, CompressedBitmap> tasksByType = new EnumMap<>(TaskType.class);
+    private final Map<String, CompressedBitmap> tasksByAssignee = new HashMap<>();
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private static final CompressedBitmap NONE = new CompressedBitmap();
+
+    private final Map<String, Set<String>> membersByTask = new HashMap<>();
+    private final Map<String, Set<String>> tasksByMember = new HashMap<>();
+    private final ReentrantReadWriteLock linkLock = new ReentrantReadWriteLock();
+
+    // [메모] 쓰기끼리의 순서를 정하는 lock (조회는 잡지 않음), 스냅샷을 뜰 때도 잠깐 잡음
+    final ReentrantLock commitLock = new ReentrantLock();
+    private final WriteAheadLog wal;
+
+    // [메모] UnitOfWork 안의 쓰기들은 commit 때 모두 반영한 뒤 fsync를 한 번만 기다림
+    private static final UnitOfWork.PendingWrite SYNC = () -> instance.sync();
+
+    // [메모] 스냅샷 한 장의 내용 (LSN까지 반영된 전체 상태)
+    record Image(long lsn, List<Task> tasks, List<Member> members, List<String[]> links) {}
+
+    private MemoryStore() {
+        for (TaskStatus status : TaskStatus.values()) {
+            tasksByStatus.put(status, new CompressedBitmap());
+        }
+        for (TaskType type : TaskType.values()) {
+            tasksByType.put(type, new CompressedBitmap());
+        }
+        if (!Boolean.parseBoolean(DBConfig.WAL_ENABLED.getValue())) {
+            this.wal = null;
+            return;
+        }
+        Path dir = Path.of(DBConfig.WAL_DIR.getValue());
+        try {
+            this.wal = WriteAheadLog.open(dir, this, DBConfig.WAL_GROUP_COMMIT_MS.getLong(), DBConfig.WAL_SNAPSHOT_EVERY.getInt());
+        } catch (IOException e) {
+            throw new IllegalStateException("메모리 저장소 복구 실패 : " + dir.toAbsolutePath(), e);
+        }
+    }
+
+    /* 쓰기 실행 (UnitOfWork가 진행 중이라면 commit 때까지 미뤄둠) */
+    static void write(Mutation mutation) throws SQLException {
+        UnitOfWork work = UnitOfWork.deferring();
+        if (work != null) {
+            work.shared(instance, Batch::new).mutations.add(mutation);
+            work.afterFlush(SYNC);
+        } else {
+            instance.submit(mutation);
+            instance.sync();
+        }
+    }
+
+    /* 검사 -> WAL 기록 -> 반영 */
+    private void submit(Mutation mutation) throws SQLException {
+        commitLock.lock();
+        try {
+            mutation.check(this);
+            if (wal != null) {
+                wal.append(mutation);
+            }
+            mutation.applyTo(this);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    // [메모] UnitOfWork 하나에서 쌓인 쓰기들 (commit 때 submitAll()로 한 번에 반영)
+    private static final class Batch implements UnitOfWork.PendingWrite {
+        final List<Mutation> mutations = new ArrayList<>();
+
+        @Override
+        public void flush() throws SQLException {
+            instance.submitAll(mutations);
+        }
+    }
+
+    /* 쓰기들을 모두 반영하거나, 하나도 반영하지 않음 (자식마다 검사 -> 반영, 끝까지 통과하면 WAL에 batch 하나로 기록) */
+    private void submitAll(List<Mutation> mutations) throws SQLException {
+        if (mutations.size() == 1) {
+            submit(mutations.get(0));
+            return;
+        }
+        commitLock.lock();
+        try {
+            Deque<List<Mutation>> undo = new ArrayDeque<>();
+            try {
+                // [1] 앞선 쓰기가 반영된 상태에서 다음 쓰기를 검사해야 하므로 (업무 저장 뒤 배정 등) 하나씩 검사 -> 반영
+                for (Mutation mutation : mutations) {
+                    mutation.check(this);
+                    undo.push(mutation.undoFor(this));
+                    mutation.applyTo(this);
+                }
+                // [2] 모두 통과했다면 WAL엔 레코드 하나로 (재실행 시에도 전부 반영되거나 전부 버려짐)
+                if (wal != null) {
+                    wal.append(Mutation.batch(mutations));
+                }
+            } catch (SQLException | RuntimeException e) {
+                // [3] 실패했다면 반영한 것들을 거꾸로 되돌림
+                while (!undo.isEmpty()) {
+                    undo.pop().forEach(mutation -> mutation.applyTo(this));
+                }
+                throw e;
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /* 지금까지의 쓰기가 디스크에 fsync 될 때까지 대기 */
+    private void sync() throws SQLException {
+        if (wal != null) {
+            wal.awaitDurable(wal.lastAppended());
+        }
+    }
+
+    static Task copy(Task task) {
+        LocalDate dueTo = task.getDueTo() == null ? NO_DUE_DATE : task.getDueTo();
+        return new Task(task.getTid(), task.getName(), task.getType(), task.getStatus(), dueTo, task.getCreatedAt());
+    }
+
+    static Member copy(Member member) {
+        return new Member(member.getMid(), member.getName(), member.getAuth());
+    }
+
+    static SQLException duplicate(String id) {
+        return new SQLIntegrityConstraintViolationException("Duplicate entry '" + id + "' for key 'PRIMARY'");
+    }
+
+    // [ 스냅샷 ]
+
+    /* 현재 상태 복사 (commitLock을 잡은 채로 호출) */
+    Image image() {
+        List<String[]> links = new ArrayList<>();
+        linkLock.readLock().lock();
+        try {
+            membersByTask.forEach((pid, mids) -> mids.forEach(mid -> links.add(new String[]{pid, mid})));
+        } finally {
+            linkLock.readLock().unlock();
+        }
+        return new Image(wal == null ? 0 : wal.lastAppended(), new ArrayList<>(tasks.values()), new ArrayList<>(members.values()), links);
+    }
+
+    /* 스냅샷 내용 반영 (복구 시 비어 있는 상태에서 호출) */
+    void restore(Image image) {
+        image.tasks().forEach(this::putTask);
+        image.members().forEach(member -> members.put(member.getMid(), member));
+        link(image.links());
+    }
+
+    // [ projects + 보조 인덱스 ]
+
+    /* 업무 저장 또는 교체 (commitLock 안에서 호출) */
+    void putTask(Task task) {
+        String tid = task.getTid();
+        indexLock.writeLock().lock();
+        try {
+            Task old = tasks.put(tid, task);
+            int ordinal = old == null ? allocateOrdinal(tid) : ordinals.get(tid);
+            if (old != null) {
+                tasksByStatus.get(old.getStatus()).remove(ordinal);
+                tasksByType.get(old.getType()).remove(ordinal);
+            }
+            tasksByStatus.get(task.getStatus()).add(ordinal);
+            tasksByType.get(task.getType()).add(ordinal);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /* 업무 삭제, 배정도 함께 해제 (commitLock 안에서 호출) */
+    void removeTask(String tid) {
+        if (!tasks.containsKey(tid)) {
+            return;
+        }
+        // [메모] 배정을 먼저 풀어서 담당자 bitmap에서 ordinal을 뺀 뒤에 ordinal을 돌려줌
+        unlinkTask(tid);
+        indexLock.writeLock().lock();
+        try {
+            Task old = tasks.remove(tid);
+            int ordinal = ordinals.remove(tid);
+            tasksByStatus.get(old.getStatus()).remove(ordinal);
+            tasksByType.get(old.getType()).remove(ordinal);
+            tidsByOrdinal.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    int countOf(TaskStatus status) {
+        indexLock.readLock().lock();
+        try {
+            return tasksByStatus.get(status).cardinality();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /* 조건(null은 조건 없음)을 만족하는 업무ID들을 ID 순으로, 조건별 bitmap의 교집합으로 구함 */
+    Collection<String> taskCandidates(TaskType type, TaskStatus status, String assignee) {
+        List<String> tids;
+        indexLock.readLock().lock();
+        try {
+            // [1] 지정된 조건의 bitmap들을 원소 수가 적은 순으로 정렬
+            List<CompressedBitmap> filters = new ArrayList<>(3);
+            if (type != null) {
+                filters.add(tasksByType.get(type));
+            }
+            if (status != null) {
+                filters.add(tasksByStatus.get(status));
+            }
+            if (assignee != null) {
+                filters.add(tasksByAssignee.getOrDefault(assignee, NONE));
+            }
+            if (filters.isEmpty()) {
+                return tasks.keySet();
+            }
+            filters.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+            // [2] 작은 것부터 AND (중간 결과가 비면 바로 멈춤)
+            CompressedBitmap result = filters.get(0);
+            for (int i = 1; i < filters.size() && !result.isEmpty(); i++) {
+                result = CompressedBitmap.and(result, filters.get(i));
+            }
+            // [3] ordinal -> 업무ID
+            tids = new ArrayList<>(result.cardinality());
+            result.forEach(ordinal -> tids.add(tidsByOrdinal.get(ordinal)));
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        // [메모] ordinal은 재사용되므로 ID 순서가 아님, MySQL의 기본키 순서와 같게 정렬
+        tids.sort(null);
+        return tids;
+    }
+
+    private int allocateOrdinal(String tid) {
+        Integer ordinal = freeOrdinals.poll();
+        if (ordinal == null) {
+            ordinal = tidsByOrdinal.size();
+            tidsByOrdinal.add(tid);
+        } else {
+            tidsByOrdinal.set(ordinal, tid);
+        }
+        ordinals.put(tid, ordinal);
+        return ordinal;
+    }
+
+    /* 담당자 bitmap 갱신 (linkLock의 write lock 안에서 호출) */
+    private void assign(String pid, String mid, boolean assigned) {
+        indexLock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(pid);
+            if (ordinal == null) {
+                return;
+            }
+            if (assigned) {
+                tasksByAssignee.computeIfAbsent(mid, k -> new CompressedBitmap()).add(ordinal);
+                return;
+            }
+            CompressedBitmap bitmap = tasksByAssignee.get(mid);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    tasksByAssignee.remove(mid);
+                }
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    // [ project_team ]
+
+    /* 배정 추가 (검사는 Mutation.check()에서 끝난 상태) */
+    void link(Collection<String[]> pairs) {
+        linkLock.writeLock().lock();
+        try {
+            for (String[] pair : pairs) {
+                membersByTask.computeIfAbsent(pair[0], k -> new HashSet<>()).add(pair[1]);
+                tasksByMember.computeIfAbsent(pair[1], k -> new HashSet<>()).add(pair[0]);
+                assign(pair[0], pair[1], true);
+            }
+        } finally {
+            linkLock.writeLock().unlock();
+        }
+    }
+
+    void unlink(Collection<String[]> pairs) {
+        linkLock.writeLock().lock();
+        try {
+            for (String[] pair : pairs) {
+                removeFrom(membersByTask, pair[0], pair[1]);
+                removeFrom(tasksByMember, pair[1], pair[0]);
+                assign(pair[0], pair[1], false);
+            }
+        } finally {
+            linkLock.writeLock().unlock();
+        }
+    }
+
+    /* 업무 삭제 시 해당 업무의 배정 모두 해제 */
+    void unlinkTask(String pid) {
+        linkLock.writeLock().lock();
+        try {
+            Set<String> mids = membersByTask.remove(pid);
+            if (mids != null) {
+                for (String mid : mids) {
+                    removeFrom(tasksByMember, mid, pid);
+                    assign(pid, mid, false);
+                }
+            }
+        } finally {
+            linkLock.writeLock().unlock();
+        }
+    }
+
+    /* 팀원 삭제 시 해당 팀원의 배정 모두 해제 */
+    void unlinkMember(String mid) {
+        linkLock.writeLock().lock();
+        try {
+            Set<String> pids = tasksByMember.remove(mid);
+            if (pids != null) {
+                for (String pid : pids) {
+                    removeFrom(membersByTask, pid, mid);
+                    assign(pid, mid, false);
+                }
+            }
+        } finally {
+            linkLock.writeLock().unlock();
+        }
+    }
+
+    Set<String> memberIdsOf(String pid) {
+        linkLock.readLock().lock();
+        try {
+            return new HashSet<>(membersByTask.getOrDefault(pid, Set.of()));
+        } finally {
+            linkLock.readLock().unlock();
+        }
+    }
+
+    Set<String> taskIdsOf(String mid) {
+        linkLock.readLock().lock();
+        try {
+            return new HashSet<>(tasksByMember.getOrDefault(mid, Set.of()));
+        } finally {
+            linkLock.readLock().unlock();
+        }
+    }
+
+    boolean isLinked(String pid, String mid) {
+        linkLock.readLock().lock();
+        try {
+            Set<String> mids = membersByTask.get(pid);
+            return mids != null && mids.contains(mid);
+        } finally {
+            linkLock.readLock().unlock();
+        }
+    }
+
+    boolean hasTasks(String mid) {
+        linkLock.readLock().lock();
+        try {
+            return tasksByMember.containsKey(mid);
+        } finally {
+            linkLock.readLock().unlock();
+        }
+    }
+
+    /* 팀원별 담당 업무 수 */
+    Map<String, Integer> taskCountsByMember() {
+        linkLock.readLock().lock();
+        try {
+            Map<String, Integer> counts = new HashMap<>();
+            tasksByMember.forEach((mid, pids) -> counts.put(mid, pids.size()));
+            return counts;
+        } finally {
+            linkLock.readLock().unlock();
+        }
+    }
+
+    /* 담당 업무가 하나 이상인 팀원 수 */
+    int assignedMemberCount() {
+        indexLock.readLock().lock();
+        try {
+            return tasksByAssignee.size();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    // [메모] 마지막 배정이 빠지면 키도 지워서, containsKey()가 "배정 있음"을 뜻하도록 유지
+    private static void removeFrom(Map<String, Set<String>> index, String key, String value) {
+        Set<String> values = index.get(key);
+        if (values != null && values.remove(value) && values.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
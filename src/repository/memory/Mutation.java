@@ -0,0 +1,335 @@
+package repository.memory;
+
+import configs.project.TaskStatus;
+import configs.project.TaskType;
+import configs.team.Authority;
+import model.project.Task;
+import model.team.Member;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// [ Mutation 클래스 설명 ]
+// - Mutation은 메모리 저장소에 대한 쓰기 하나(저장 / 수정 / 삭제 / 배정 추가 / 배정 해제)를 나타내는 클래스임다.
+// - UnitOfWork 하나의 쓰기들은 batch()로 묶어 WAL 레코드 하나로 남기므로, 재실행 시에도 전부 반영되거나 전부 버려집니다.
+// - MemoryStore.submit()이 check() -> WAL 기록 -> applyTo() 순서로 처리하고, 재시작 시엔 WAL에서 decode() 해서 applyTo()만 다시 수행합니다.
+
+// [ 메모 ]
+// - check()를 통과한 쓰기만 WAL에 남기 때문에, 재실행(replay)에선 검사 없이 바로 반영합니다.
+// - undoFor()는 반영 직전에 불러서, 반영을 되돌릴 쓰기들을 구합니다. (batch 도중 실패 시 MemoryStore가 거꾸로 반영)
+// - encode() / decode()는 DataOutput / DataInput 기반이며, 필드 순서를 바꾸면 기존 WAL과 스냅샷을 읽을 수 없게 되니 주의!
+
+final class Mutation {
+    enum Op {
+        INSERT_TASKS, UPDATE_TASKS, DELETE_TASKS,
+        INSERT_MEMBERS, UPDATE_MEMBERS, DELETE_MEMBERS,
+        LINK, UNLINK,
+        BATCH   // [메모] 기존 WAL의 ordinal이 바뀌지 않도록 맨 뒤에 추가
+    }
+
+    private static final Op[] OPS = Op.values();
+
+    final Op op;
+    private final List<Task> tasks;
+    private final List<Member> members;
+    private final List<String> ids;
+    private final List<String[]> pairs;
+    private final List<Mutation> children;
+
+    private Mutation(Op op, List<Task> tasks, List<Member> members, List<String> ids, List<String[]> pairs) {
+        this(op, tasks, members, ids, pairs, List.of());
+    }
+
+    private Mutation(Op op, List<Task> tasks, List<Member> members, List<String> ids, List<String[]> pairs, List<Mutation> children) {
+        this.op = op;
+        this.tasks = tasks;
+        this.members = members;
+        this.ids = ids;
+        this.pairs = pairs;
+        this.children = children;
+    }
+
+    static Mutation insertTasks(List<Task> tasks) {
+        return new Mutation(Op.INSERT_TASKS, tasks, List.of(), List.of(), List.of());
+    }
+
+    static Mutation updateTasks(List<Task> tasks) {
+        return new Mutation(Op.UPDATE_TASKS, tasks, List.of(), List.of(), List.of());
+    }
+
+    static Mutation deleteTasks(List<String> ids) {
+        return new Mutation(Op.DELETE_TASKS, List.of(), List.of(), ids, List.of());
+    }
+
+    static Mutation insertMembers(List<Member> members) {
+        return new Mutation(Op.INSERT_MEMBERS, List.of(), members, List.of(), List.of());
+    }
+
+    static Mutation updateMembers(List<Member> members) {
+        return new Mutation(Op.UPDATE_MEMBERS, List.of(), members, List.of(), List.of());
+    }
+
+    static Mutation deleteMembers(List<String> ids) {
+        return new Mutation(Op.DELETE_MEMBERS, List.of(), List.of(), ids, List.of());
+    }
+
+    static Mutation link(List<String[]> pairs) {
+        return new Mutation(Op.LINK, List.of(), List.of(), List.of(), pairs);
+    }
+
+    static Mutation unlink(List<String[]> pairs) {
+        return new Mutation(Op.UNLINK, List.of(), List.of(), List.of(), pairs);
+    }
+
+    /* 이미 하나씩 검사 / 반영된 쓰기들을 WAL 레코드 하나로 묶음 */
+    static Mutation batch(List<Mutation> children) {
+        return new Mutation(Op.BATCH, List.of(), List.of(), List.of(), List.of(), List.copyOf(children));
+    }
+
+    /* 반영 전 검사 (하나라도 어긋나면 아무것도 반영하지 않음, JDBC batch의 rollback과 같은 결과) */
+    void check(MemoryStore store) throws SQLException {
+        switch (op) {
+            case INSERT_TASKS -> {
+                Set<String> seen = new HashSet<>();
+                for (Task task : tasks) {
+                    if (store.tasks.containsKey(task.getTid()) || !seen.add(task.getTid())) {
+                        throw MemoryStore.duplicate(task.getTid());
+                    }
+                }
+            }
+            case INSERT_MEMBERS -> {
+                Set<String> seen = new HashSet<>();
+                for (Member member : members) {
+                    if (store.members.containsKey(member.getMid()) || !seen.add(member.getMid())) {
+                        throw MemoryStore.duplicate(member.getMid());
+                    }
+                }
+            }
+            case LINK -> {
+                Set<String> seen = new HashSet<>();
+                for (String[] pair : pairs) {
+                    if (!store.tasks.containsKey(pair[0]) || !store.members.containsKey(pair[1])) {
+                        throw new SQLIntegrityConstraintViolationException("Cannot add or update a child row: " + pair[0] + "/" + pair[1]);
+                    }
+                    if (store.isLinked(pair[0], pair[1]) || !seen.add(pair[0] + "/" + pair[1])) {
+                        throw MemoryStore.duplicate(pair[0] + "-" + pair[1]);
+                    }
+                }
+            }
+            default -> {
+                // [메모] 수정 / 삭제 / 배정 해제는 대상이 없으면 SQL처럼 무시하므로 검사할 것이 없음
+                // [메모] BATCH는 MemoryStore가 자식마다 검사 -> 반영을 번갈아 하므로 여기선 검사하지 않음
+            }
+        }
+    }
+
+    /* 반영 직전(check() 통과 후)의 store에서, 이 쓰기를 되돌릴 쓰기들 (순서대로 반영) */
+    List<Mutation> undoFor(MemoryStore store) {
+        switch (op) {
+            case INSERT_TASKS -> {
+                return List.of(deleteTasks(tasks.stream().map(Task::getTid).toList()));
+            }
+            case UPDATE_TASKS -> {
+                List<Task> olds = new ArrayList<>();
+                for (Task change : tasks) {
+                    Task old = store.tasks.get(change.getTid());
+                    if (old != null) {
+                        olds.add(old);
+                    }
+                }
+                return List.of(updateTasks(olds));
+            }
+            case DELETE_TASKS -> {
+                // [메모] 삭제와 함께 풀리는 배정도 다시 연결
+                Map<String, Task> olds = new LinkedHashMap<>();
+                List<String[]> links = new ArrayList<>();
+                for (String id : ids) {
+                    Task old = store.tasks.get(id);
+                    if (old != null && olds.put(id, old) == null) {
+                        store.memberIdsOf(id).forEach(mid -> links.add(new String[]{id, mid}));
+                    }
+                }
+                return List.of(insertTasks(new ArrayList<>(olds.values())), link(links));
+            }
+            case INSERT_MEMBERS -> {
+                return List.of(deleteMembers(members.stream().map(Member::getMid).toList()));
+            }
+            case UPDATE_MEMBERS -> {
+                List<Member> olds = new ArrayList<>();
+                for (Member change : members) {
+                    Member old = store.members.get(change.getMid());
+                    if (old != null) {
+                        olds.add(old);
+                    }
+                }
+                return List.of(updateMembers(olds));
+            }
+            case DELETE_MEMBERS -> {
+                Map<String, Member> olds = new LinkedHashMap<>();
+                List<String[]> links = new ArrayList<>();
+                for (String id : ids) {
+                    Member old = store.members.get(id);
+                    if (old != null && olds.put(id, old) == null) {
+                        store.taskIdsOf(id).forEach(pid -> links.add(new String[]{pid, id}));
+                    }
+                }
+                return List.of(insertMembers(new ArrayList<>(olds.values())), link(links));
+            }
+            case LINK -> {
+                return List.of(unlink(pairs));
+            }
+            case UNLINK -> {
+                // [메모] 실제로 배정돼 있던 쌍만 다시 연결
+                return List.of(link(pairs.stream().filter(pair -> store.isLinked(pair[0], pair[1])).toList()));
+            }
+            default -> throw new IllegalStateException("BATCH는 자식마다 되돌립니다.");
+        }
+    }
+
+    void applyTo(MemoryStore store) {
+        switch (op) {
+            case INSERT_TASKS -> tasks.forEach(store::putTask);
+            case UPDATE_TASKS -> {
+                // [메모] UPDATE 문과 같게 업무명 / 상태 / 마감일만 바꿈
+                for (Task change : tasks) {
+                    Task old = store.tasks.get(change.getTid());
+                    if (old != null) {
+                        store.putTask(new Task(old.getTid(), change.getName(), old.getType(), change.getStatus(), change.getDueTo(), old.getCreatedAt()));
+                    }
+                }
+            }
+            case DELETE_TASKS -> ids.forEach(store::removeTask);
+            case INSERT_MEMBERS -> members.forEach(member -> store.members.put(member.getMid(), member));
+            case UPDATE_MEMBERS -> members.forEach(member -> store.members.replace(member.getMid(), member));
+            case DELETE_MEMBERS -> {
+                for (String id : ids) {
+                    if (store.members.remove(id) != null) {
+                        store.unlinkMember(id);
+                    }
+                }
+            }
+            case LINK -> store.link(pairs);
+            case UNLINK -> store.unlink(pairs);
+            case BATCH -> children.forEach(child -> child.applyTo(store));
+        }
+    }
+
+    // [ 직렬화 ]
+
+    void encode(DataOutput out) throws IOException {
+        out.writeByte(op.ordinal());
+        switch (op) {
+            case INSERT_TASKS, UPDATE_TASKS -> {
+                out.writeInt(tasks.size());
+                for (Task task : tasks) {
+                    writeTask(out, task);
+                }
+            }
+            case INSERT_MEMBERS, UPDATE_MEMBERS -> {
+                out.writeInt(members.size());
+                for (Member member : members) {
+                    writeMember(out, member);
+                }
+            }
+            case DELETE_TASKS, DELETE_MEMBERS -> {
+                out.writeInt(ids.size());
+                for (String id : ids) {
+                    out.writeUTF(id);
+                }
+            }
+            case LINK, UNLINK -> {
+                out.writeInt(pairs.size());
+                for (String[] pair : pairs) {
+                    out.writeUTF(pair[0]);
+                    out.writeUTF(pair[1]);
+                }
+            }
+            case BATCH -> {
+                out.writeInt(children.size());
+                for (Mutation child : children) {
+                    child.encode(out);
+                }
+            }
+        }
+    }
+
+    static Mutation decode(DataInput in) throws IOException {
+        Op op = OPS[in.readUnsignedByte()];
+        int size = in.readInt();
+        switch (op) {
+            case INSERT_TASKS, UPDATE_TASKS -> {
+                List<Task> tasks = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    tasks.add(readTask(in));
+                }
+                return new Mutation(op, tasks, List.of(), List.of(), List.of());
+            }
+            case INSERT_MEMBERS, UPDATE_MEMBERS -> {
+                List<Member> members = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    members.add(readMember(in));
+                }
+                return new Mutation(op, List.of(), members, List.of(), List.of());
+            }
+            case DELETE_TASKS, DELETE_MEMBERS -> {
+                List<String> ids = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    ids.add(in.readUTF());
+                }
+                return new Mutation(op, List.of(), List.of(), ids, List.of());
+            }
+            case BATCH -> {
+                List<Mutation> children = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    children.add(decode(in));
+                }
+                return batch(children);
+            }
+            default -> {
+                List<String[]> pairs = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    pairs.add(new String[]{in.readUTF(), in.readUTF()});
+                }
+                return new Mutation(op, List.of(), List.of(), List.of(), pairs);
+            }
+        }
+    }
+
+    // [메모] 스냅샷도 같은 형식으로 업무 / 팀원을 기록
+    static void writeTask(DataOutput out, Task task) throws IOException {
+        out.writeUTF(task.getTid());
+        out.writeUTF(task.getName());
+        out.writeByte(task.getType().ordinal());
+        out.writeByte(task.getStatus().ordinal());
+        out.writeLong(task.getDueTo().toEpochDay());
+        out.writeLong(task.getCreatedAt().toEpochDay());
+    }
+
+    static Task readTask(DataInput in) throws IOException {
+        return new Task(in.readUTF(), in.readUTF(),
+                TaskType.values()[in.readUnsignedByte()],
+                TaskStatus.values()[in.readUnsignedByte()],
+                LocalDate.ofEpochDay(in.readLong()),
+                LocalDate.ofEpochDay(in.readLong()));
+    }
+
+    static void writeMember(DataOutput out, Member member) throws IOException {
+        out.writeUTF(member.getMid());
+        out.writeUTF(member.getName());
+        out.writeByte(member.getAuth().ordinal());
+    }
+
+    static Member readMember(DataInput in) throws IOException {
+        return new Member(in.readUTF(), in.readUTF(), Authority.values()[in.readUnsignedByte()]);
+    }
+}
@@ -0,0 +1,469 @@
+package repository.memory;
+
+import configs.message.Ingredient;
+import model.project.Task;
+import model.team.Member;
+import utils.LogRecorder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// [ WriteAheadLog 클래스 설명 ]
+// - WriteAheadLog는 메모리 저장소의 쓰기(Mutation)를 파일에 순서대로 덧붙여, 프로세스가 죽어도 데이터를 되살릴 수 있게 하는 클래스임다.
+// - 쓰기는 메모리의 buffer에 쌓이고, 전용 flusher 스레드가 모아서 한 번에 write + fsync 합니다. (group commit)
+// - 일정 개수의 쓰기마다 전체 상태를 스냅샷으로 남기고 새 segment 파일로 넘어가, 재시작 시엔 스냅샷 + 그 뒤의 꼬리만 재실행합니다.
+
+// [ 파일 구성 ]
+// - wal-<시작 LSN>.log       : [int 길이][int CRC32][long LSN][Mutation] 레코드의 나열
+// - snapshot-<LSN>.snap      : [int MAGIC][long LSN][업무들][팀원들][배정들][long CRC32], LSN까지 반영된 전체 상태
+//   -> 스냅샷은 .tmp로 쓰고 fsync 후 이름을 바꾸므로, 반쯤 쓰인 스냅샷이 읽히는 일은 없슴다.
+
+// [ 메모 ]
+// - LSN(Log Sequence Number)은 1부터 빈틈없이 증가하며, 복구 시 LSN이 끊기거나 CRC가 맞지 않는 지점부터는 버리고 파일을 잘라냅니다.
+//   -> 기록 도중 죽어서 반쯤 쓰인 마지막 레코드(torn write)는 이렇게 정리됩니다.
+// - 호출자는 append()가 돌려준 LSN으로 awaitDurable()을 불러, fsync가 끝난 뒤에야 작업 완료로 응답합니다.
+// - groupCommitMs 동안 들어온 쓰기들은 fsync 한 번으로 함께 내려가며, 0이면 기다리지 않고 바로 fsync 합니다.
+// - snapshotEvery가 작을수록 재시작 시 재실행할 꼬리가 짧아져 복구가 빨라지지만, 스냅샷을 자주 쓰게 됩니다.
+
+final class WriteAheadLog implements AutoCloseable {
+    private static final int SNAPSHOT_MAGIC = 0x504D5453; // [메모] "PMTS"
+    private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private final Path dir;
+    private final MemoryStore store;
+    private final long groupCommitMs;
+    private final int snapshotEvery;
+
+    // [메모] 아래 필드들은 lock으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingCond = lock.newCondition();
+    private final Condition durableCond = lock.newCondition();
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private long appendedLsn;
+    private long durableLsn;
+    private int sinceSnapshot;
+    private boolean checkpointRequested = false;
+    private boolean closing = false;
+    private IOException failure;
+
+    // [메모] segment는 flusher 스레드만 사용 (복구 중, close() 중 제외)
+    private FileChannel segment;
+    private final Thread flusher;
+
+    private WriteAheadLog(Path dir, MemoryStore store, long groupCommitMs, int snapshotEvery) {
+        this.dir = dir;
+        this.store = store;
+        this.groupCommitMs = groupCommitMs;
+        this.snapshotEvery = snapshotEvery;
+        this.flusher = new Thread(this::runFlusher, "pmt-wal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    /* 디렉토리의 스냅샷과 WAL로 store를 복구한 뒤, 이어서 기록할 WAL 반환 */
+    static WriteAheadLog open(Path dir, MemoryStore store, long groupCommitMs, int snapshotEvery) throws IOException {
+        Files.createDirectories(dir);
+        WriteAheadLog wal = new WriteAheadLog(dir, store, groupCommitMs, snapshotEvery);
+        long lastLsn = wal.recover();
+        wal.appendedLsn = lastLsn;
+        wal.durableLsn = lastLsn;
+        wal.segment = wal.openSegment(lastLsn + 1);
+        wal.flusher.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(wal::close, "pmt-wal-shutdown"));
+        return wal;
+    }
+
+    // [ 기록 ]
+
+    /* 쓰기 하나를 buffer에 덧붙이고 LSN 반환 (MemoryStore의 commitLock 안에서 호출되어, LSN 순서 = 반영 순서) */
+    long append(Mutation mutation) throws SQLException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            mutation.encode(new DataOutputStream(body));
+        } catch (IOException e) {
+            throw new SQLException("WAL 레코드 생성 실패", e);
+        }
+
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw new SQLException("WAL에 기록할 수 없는 상태입니다.", failure);
+            }
+            if (closing) {
+                throw new SQLException("WAL이 이미 닫혔습니다.");
+            }
+            long lsn = appendedLsn + 1;
+            writeRecord(new DataOutputStream(buffer), lsn, body.toByteArray());
+            appendedLsn = lsn;
+            if (++sinceSnapshot >= snapshotEvery) {
+                checkpointRequested = true;
+            }
+            pendingCond.signal();
+            return lsn;
+        } catch (IOException e) {
+            throw new SQLException("WAL 레코드 생성 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* 지금까지 덧붙인 레코드의 마지막 LSN */
+    long lastAppended() {
+        lock.lock();
+        try {
+            return appendedLsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* lsn까지 fsync 될 때까지 대기 */
+    void awaitDurable(long lsn) throws SQLException {
+        lock.lock();
+        try {
+            while (durableLsn < lsn) {
+                if (failure != null) {
+                    throw new SQLException("WAL fsync 실패", failure);
+                }
+                if (closing && !flusher.isAlive()) {
+                    throw new SQLException("WAL이 이미 닫혔습니다.");
+                }
+                durableCond.await(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("WAL fsync 대기 중 중단되었습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* 남은 buffer를 내려쓰고 flusher 종료 (종료 hook에서도 호출) */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closing = true;
+            pendingCond.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, long lsn, byte[] body) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(Long.BYTES + body.length);
+        payload.putLong(lsn).put(body);
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        out.writeInt(payload.capacity());
+        out.writeInt((int) crc.getValue());
+        out.write(payload.array());
+    }
+
+    // [ flusher 스레드 ]
+
+    private void runFlusher() {
+        try {
+            while (true) {
+                // [1] 쌓인 쓰기가 생길 때까지 대기
+                lock.lock();
+                try {
+                    while (buffer.size() == 0 && !checkpointRequested && !closing) {
+                        pendingCond.await();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                // [2] groupCommitMs 동안 다른 쓰기들이 더 쌓이도록 기다림
+                if (groupCommitMs > 0) {
+                    Thread.sleep(groupCommitMs);
+                }
+
+                // [3] 쌓인 만큼 한 번에 write + fsync
+                boolean checkpoint;
+                boolean exit;
+                lock.lock();
+                try {
+                    checkpoint = checkpointRequested;
+                    exit = closing;
+                } finally {
+                    lock.unlock();
+                }
+                flush();
+
+                // [4] 스냅샷 주기가 됐다면 스냅샷 후 새 segment로 전환
+                if (checkpoint) {
+                    checkpoint();
+                }
+                if (exit) {
+                    flush();
+                    segment.close();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            lock.lock();
+            try {
+                failure = e;
+                durableCond.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            LogRecorder.record(Ingredient.LOG_ERROR_SQL, "WAL 기록");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* buffer를 현재 segment에 내려쓰고 fsync (flusher 스레드 전용) */
+    private void flush() throws IOException {
+        byte[] bytes;
+        long target;
+        lock.lock();
+        try {
+            if (buffer.size() == 0) {
+                return;
+            }
+            bytes = buffer.toByteArray();
+            target = appendedLsn;
+            buffer = new ByteArrayOutputStream(Math.max(bytes.length, 32));
+        } finally {
+            lock.unlock();
+        }
+
+        ByteBuffer out = ByteBuffer.wrap(bytes);
+        while (out.hasRemaining()) {
+            segment.write(out);
+        }
+        segment.force(false);
+
+        lock.lock();
+        try {
+            durableLsn = target;
+            durableCond.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* 현재 상태를 스냅샷으로 남기고, 스냅샷에 포함된 이전 segment와 스냅샷 정리 (flusher 스레드 전용) */
+    private void checkpoint() throws IOException {
+        MemoryStore.Image image;
+        long lsn;
+        // [1] 쓰기를 잠깐 막고, 그 시점까지의 WAL을 내려쓴 뒤 상태를 복사하고 새 segment로 전환
+        store.commitLock.lock();
+        try {
+            flush();
+            lock.lock();
+            try {
+                lsn = appendedLsn;
+                sinceSnapshot = 0;
+                checkpointRequested = false;
+            } finally {
+                lock.unlock();
+            }
+            image = store.image();
+            segment.close();
+            segment = openSegment(lsn + 1);
+        } finally {
+            store.commitLock.unlock();
+        }
+
+        // [2] 스냅샷 기록은 쓰기를 막지 않고 수행
+        writeSnapshot(image, lsn);
+
+        // [3] 새 스냅샷에 포함된 이전 파일들 삭제
+        for (Path path : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).headMap(lsn).values()) {
+            Files.deleteIfExists(path);
+        }
+        for (Path path : list(SEGMENT_PREFIX, SEGMENT_SUFFIX).headMap(lsn + 1).values()) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private void writeSnapshot(MemoryStore.Image image, long lsn) throws IOException {
+        Path tmp = dir.resolve(SNAPSHOT_PREFIX + lsn + SNAPSHOT_SUFFIX + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(lsn);
+            out.writeInt(image.tasks().size());
+            for (Task task : image.tasks()) {
+                Mutation.writeTask(out, task);
+            }
+            out.writeInt(image.members().size());
+            for (Member member : image.members()) {
+                Mutation.writeMember(out, member);
+            }
+            out.writeInt(image.links().size());
+            for (String[] pair : image.links()) {
+                out.writeUTF(pair[0]);
+                out.writeUTF(pair[1]);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeLong(crc.getValue());
+            out.flush();
+
+            bytes.writeTo(Channels.newOutputStream(channel));
+            channel.force(true);
+        }
+        Files.move(tmp, dir.resolve(SNAPSHOT_PREFIX + lsn + SNAPSHOT_SUFFIX),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // [ 복구 ]
+
+    /* 최신 스냅샷을 읽고 그 뒤의 WAL을 재실행한 뒤, 마지막으로 반영된 LSN 반환 */
+    private long recover() throws IOException {
+        // [1] 읽을 수 있는 가장 최신 스냅샷 반영 (깨진 스냅샷은 건너뜀)
+        long lastLsn = 0;
+        for (Path path : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).descendingMap().values()) {
+            MemoryStore.Image image = readSnapshot(path);
+            if (image != null) {
+                store.restore(image);
+                lastLsn = image.lsn();
+                break;
+            }
+        }
+
+        // [2] 스냅샷 이후의 레코드들을 LSN 순서대로 재실행
+        TreeMap<Long, Path> segments = list(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        boolean broken = false;
+        for (Path path : segments.values()) {
+            if (broken) {
+                // [메모] 앞 segment가 중간에 끊겼다면 뒤 segment들은 이어붙일 수 없으므로 버림
+                Files.delete(path);
+                continue;
+            }
+            byte[] bytes = Files.readAllBytes(path);
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            int validEnd = 0;
+            while (in.remaining() >= Integer.BYTES * 2) {
+                int length = in.getInt();
+                int checksum = in.getInt();
+                if (length < Long.BYTES || length > MAX_RECORD_BYTES || in.remaining() < length) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.get(payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                long lsn = record.readLong();
+                if (lsn > lastLsn + 1) {
+                    // [메모] 멀쩡한 레코드인데 LSN이 끊겼다면 파일이 유실된 것이므로, 잘라내지 않고 복구를 멈춤
+                    throw new IOException("WAL이 끊겨 있어 복구할 수 없습니다 : " + path.getFileName() + " (LSN " + (lastLsn + 1) + " 없음)");
+                }
+                if (lsn == lastLsn + 1) {
+                    Mutation.decode(record).applyTo(store);
+                    lastLsn = lsn;
+                }
+                validEnd = in.position();
+            }
+            if (validEnd < bytes.length) {
+                // [메모] 반쯤 쓰였거나 깨진 꼬리는 잘라내서, 이어지는 기록과 섞이지 않도록 함
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(validEnd);
+                    channel.force(true);
+                }
+                broken = true;
+            }
+        }
+        return lastLsn;
+    }
+
+    private static MemoryStore.Image readSnapshot(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        if (bytes.length < Integer.BYTES + Long.BYTES * 2) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - Long.BYTES);
+        if (crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - Long.BYTES, Long.BYTES).getLong()) {
+            return null;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != SNAPSHOT_MAGIC) {
+            return null;
+        }
+        long lsn = in.readLong();
+        int taskCount = in.readInt();
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(Mutation.readTask(in));
+        }
+        int memberCount = in.readInt();
+        List<Member> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(Mutation.readMember(in));
+        }
+        int linkCount = in.readInt();
+        List<String[]> links = new ArrayList<>(linkCount);
+        for (int i = 0; i < linkCount; i++) {
+            links.add(new String[]{in.readUTF(), in.readUTF()});
+        }
+        return new MemoryStore.Image(lsn, tasks, members, links);
+    }
+
+    // [ 파일 ]
+
+    private FileChannel openSegment(long startLsn) throws IOException {
+        // [메모] 같은 이름의 segment가 있다면 복구 때 비워진(레코드가 없는) 파일이므로 덮어써도 됨
+        return FileChannel.open(dir.resolve(SEGMENT_PREFIX + startLsn + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /* 접두사/접미사가 맞는 파일들 (파일명의 LSN -> 경로) */
+    private TreeMap<Long, Path> list(String prefix, String suffix) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.list(dir)) {
+            paths.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(prefix) && name.endsWith(suffix)) {
+                    try {
+                        files.put(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())), path);
+                    } catch (NumberFormatException ignored) {
+                        // [메모] 다른 파일은 무시
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return files;
+    }
+}
@@ -0,0 +1,323 @@
+package repository.pool;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+// [ ConnectionPool 클래스 설명 ]
+// - ConnectionPool은 물리 Connection들을 재사용하기 위한 최대 크기가 정해진 DataSource 구현체입니다.
+// - getConnection()은 Proxy로 감싼 Connection을 돌려주며, close() 호출 시 실제로 닫지 않고 Pool에 반납합니다.
+// - 기존 Repository 코드의 try-with-resources 구조를 그대로 두어도 Pool을 활용할 수 있습니다.
+
+// [ 메모 ]
+// - 동시에 빌려줄 수 있는 Connection 수는 Semaphore로 제한합니다. (최대 maxSize개)
+// - 반납된 Connection은 idle 덱의 앞쪽에 넣어, 최근에 쓴 Connection부터 다시 빌려줍니다.
+// - 오래 쉬고 있던 Connection만 isValid()로 검사해서, 매 대여마다 왕복 비용이 생기지 않도록 했슴다.
+// - leakThresholdMs 보다 오래 반납되지 않은 Connection은 getStats()에서 누수로 집계됩니다.
+// - 물리 Connection마다 StatementCache를 하나씩 두어, prepareStatement(sql) 결과를 재사용합니다.
+// - 빌려준 Proxy의 unwrap()은 물리 Connection을 내주지 않습니다. (Pool이 모르는 close / 트랜잭션을 막기 위함)
+
+public class ConnectionPool implements DataSource {
+    private static final long VALIDATE_AFTER_IDLE_MS = 30_000;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long acquireTimeoutMs;
+    private final long leakThresholdMs;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PhysicalConnection> idle = new LinkedBlockingDeque<>();
+    private final Map<Lease, Boolean> leases = new ConcurrentHashMap<>();
+
+    // [ 통계용 필드 ]
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireWaitNanos = new LongAdder();
+    private final AtomicLong maxAcquireWaitNanos = new AtomicLong();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+
+    private volatile boolean closed = false;
+
+    public ConnectionPool(String driver, String url, String user, String password,
+                          int maxSize, long acquireTimeoutMs, long leakThresholdMs, int statementCacheSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool 크기는 1 이상이어야 합니다 : " + maxSize);
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.leakThresholdMs = leakThresholdMs;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        // [메모] 드라이버 로드는 Pool 생성 시 한 번만 수행 (없다면 첫 getConnection()까지 미루지 않고 바로 실패)
+        try {
+            Class.forName(driver);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("JDBC 드라이버를 찾지 못했습니다 : " + driver, e);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("이미 종료된 Connection Pool입니다.");
+        }
+
+        // [1] 대여 가능한 자리가 날 때까지 대기 (대기 시간 측정)
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Connection 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        long waited = System.nanoTime() - start;
+        if (!acquired) {
+            acquireTimeouts.increment();
+            throw new SQLException("Connection 대기 시간(" + acquireTimeoutMs + "ms)을 초과했습니다. " + getStats());
+        }
+
+        // [2] 쉬고 있는 Connection을 꺼내거나, 없으면 새로 생성
+        PhysicalConnection physical;
+        try {
+            physical = takeIdle();
+            if (physical == null) {
+                physical = new PhysicalConnection(DriverManager.getConnection(url, user, password),
+                        new StatementCache(statementCacheSize, statementHits, statementMisses));
+                createdCount.increment();
+            }
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        // [3] 반납 추적용 Lease를 만들어 Proxy로 감싸서 반환
+        // [메모] 대기 시간은 대여에 성공한 경우만 기록 (평균을 acquireCount로 나누므로, timeout / 생성 실패는 acquireTimeouts 등으로 따로 봄)
+        acquireCount.increment();
+        acquireWaitNanos.add(waited);
+        maxAcquireWaitNanos.accumulateAndGet(waited, Math::max);
+        Lease lease = new Lease(physical, Thread.currentThread().getName());
+        leases.put(lease, Boolean.TRUE);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(lease));
+    }
+
+    private PhysicalConnection takeIdle() {
+        PhysicalConnection candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            boolean stale = System.currentTimeMillis() - candidate.idleSince > VALIDATE_AFTER_IDLE_MS;
+            try {
+                if (!stale || candidate.connection.isValid(1)) {
+                    return candidate;
+                }
+            } catch (SQLException ignored) {
+                // [메모] 검사 실패 시 폐기하고 다음 후보 확인
+            }
+            candidate.close();
+        }
+        return null;
+    }
+
+    private void release(Lease lease) {
+        if (!lease.released.compareAndSet(false, true)) {
+            return;
+        }
+        leases.remove(lease);
+        PhysicalConnection physical = lease.physical;
+        try {
+            // [메모] 트랜잭션이 열린 채 반납됐다면 되돌리고 기본 상태로 복구
+            if (!physical.connection.getAutoCommit()) {
+                physical.connection.rollback();
+                physical.connection.setAutoCommit(true);
+            }
+            if (closed || physical.connection.isClosed()) {
+                physical.close();
+            } else {
+                physical.idleSince = System.currentTimeMillis();
+                idle.offerFirst(physical);
+            }
+        } catch (SQLException e) {
+            physical.close();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /* 현재 Pool 상태 요약 (대기시간, 대여중/대기중 개수, 누수 의심 Connection) */
+    public PoolStats getStats() {
+        long now = System.currentTimeMillis();
+        List<String> leaked = new ArrayList<>();
+        for (Lease lease : leases.keySet()) {
+            long heldMs = now - lease.borrowedAt;
+            if (heldMs > leakThresholdMs) {
+                leaked.add(lease.holder + " (" + heldMs + "ms)");
+            }
+        }
+        return new PoolStats(maxSize, leases.size(), idle.size(), permits.getQueueLength(),
+                acquireCount.sum(), acquireTimeouts.sum(), createdCount.sum(),
+                acquireWaitNanos.sum(), maxAcquireWaitNanos.get(), leaked,
+                statementHits.sum(), statementMisses.sum());
+    }
+
+    /* 쉬고 있는 Connection들을 모두 닫고 Pool 종료 */
+    public void close() {
+        closed = true;
+        PhysicalConnection candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            candidate.close();
+        }
+    }
+
+    /* [ DataSource 나머지 구현 ] */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pool은 설정된 계정으로만 Connection을 제공합니다.");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return DriverManager.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        DriverManager.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("unwrap 불가 : " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    // [메모] 대여된 Connection 하나에 대한 기록 (누가, 언제 빌렸는지)
+    private static class Lease {
+        final PhysicalConnection physical;
+        final String holder;
+        final long borrowedAt = System.currentTimeMillis();
+        final AtomicBoolean released = new AtomicBoolean(false);
+
+        Lease(PhysicalConnection physical, String holder) {
+            this.physical = physical;
+            this.holder = holder;
+        }
+    }
+
+    // [메모] 물리 Connection과 그에 딸린 StatementCache를 함께 보관 (Pool에 반납돼도 캐시는 유지)
+    private static class PhysicalConnection {
+        final Connection connection;
+        final StatementCache statements;
+        long idleSince = System.currentTimeMillis();
+
+        PhysicalConnection(Connection connection, StatementCache statements) {
+            this.connection = connection;
+            this.statements = statements;
+        }
+
+        void close() {
+            statements.closeAll();
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    // [메모] close()는 반납으로 바꿔치기하고, 나머지 호출은 물리 Connection에 그대로 위임
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Lease lease;
+
+        PooledConnectionHandler(Lease lease) {
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    release(lease);
+                    return null;
+                case "isClosed":
+                    return lease.released.get() || lease.physical.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + lease.physical.connection + "]";
+                // [메모] 물리 Connection을 꺼내가면 Pool 모르게 닫거나 트랜잭션을 남길 수 있으므로, Connection으로는 Proxy 자신만 내줌
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    throw new SQLException("unwrap 불가 : " + ((Class<?>) args[0]).getName());
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                default:
+                    if (lease.released.get()) {
+                        throw new SQLException("이미 Pool에 반납된 Connection입니다.");
+                    }
+                    // [메모] SQL만 넘기는 prepareStatement는 StatementCache를 거침
+                    if (method.getName().equals("prepareStatement") && args.length == 1) {
+                        return lease.physical.statements.prepare(lease.physical.connection, (String) args[0]);
+                    }
+                    try {
+                        return method.invoke(lease.physical.connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
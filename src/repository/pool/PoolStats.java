@@ -0,0 +1,94 @@
+package repository.pool;
+
+import java.util.List;
+
+// [ PoolStats 클래스 설명 ]
+// - PoolStats는 ConnectionPool.getStats() 호출 시점의 Pool 상태를 담는 불변 클래스입니다.
+// - Pool 크기를 조정할 때 대기시간과 대여중/대기중 개수를 참고할 수 있습니다.
+
+public class PoolStats {
+    private final int maxSize;
+    private final int active;
+    private final int idle;
+    private final int waiting;
+    private final long acquireCount;
+    private final long acquireTimeouts;
+    private final long createdCount;
+    private final long totalAcquireWaitNanos;
+    private final long maxAcquireWaitNanos;
+    private final List<String> leaked;
+    private final long statementHits;
+    private final long statementMisses;
+
+    public PoolStats(int maxSize, int active, int idle, int waiting, long acquireCount, long acquireTimeouts,
+                     long createdCount, long totalAcquireWaitNanos, long maxAcquireWaitNanos, List<String> leaked,
+                     long statementHits, long statementMisses) {
+        this.maxSize = maxSize;
+        this.active = active;
+        this.idle = idle;
+        this.waiting = waiting;
+        this.acquireCount = acquireCount;
+        this.acquireTimeouts = acquireTimeouts;
+        this.createdCount = createdCount;
+        this.totalAcquireWaitNanos = totalAcquireWaitNanos;
+        this.maxAcquireWaitNanos = maxAcquireWaitNanos;
+        this.leaked = List.copyOf(leaked);
+        this.statementHits = statementHits;
+        this.statementMisses = statementMisses;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    public long getAcquireTimeouts() {
+        return acquireTimeouts;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public double getAverageAcquireWaitMillis() {
+        return acquireCount == 0 ? 0 : totalAcquireWaitNanos / 1_000_000.0 / acquireCount;
+    }
+
+    public double getMaxAcquireWaitMillis() {
+        return maxAcquireWaitNanos / 1_000_000.0;
+    }
+
+    public List<String> getLeaked() {
+        return leaked;
+    }
+
+    public long getStatementHits() {
+        return statementHits;
+    }
+
+    public long getStatementMisses() {
+        return statementMisses;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Pool[max=%d, active=%d, idle=%d, waiting=%d, acquired=%d, timeouts=%d, created=%d, avgWait=%.3fms, maxWait=%.3fms, leaked=%s, stmtHits=%d, stmtMisses=%d]",
+                maxSize, active, idle, waiting, acquireCount, acquireTimeouts, createdCount,
+                getAverageAcquireWaitMillis(), getMaxAcquireWaitMillis(), leaked, statementHits, statementMisses);
+    }
+}
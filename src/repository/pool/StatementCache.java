@@ -0,0 +1,133 @@
+package repository.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// [ StatementCache 클래스 설명 ]
+// - StatementCache는 물리 Connection 하나에 딸린 PreparedStatement 보관함입니다. (SQL 문자열 -> PreparedStatement)
+// - 같은 SQL을 다시 prepare하면 이미 준비된 Statement를 돌려주어, 드라이버/서버의 parse와 plan 작업을 건너뜁니다.
+// - 돌려준 Statement는 Proxy로 감싸져 있어, close() 시 실제로 닫지 않고 파라미터만 비운 뒤 다시 보관합니다.
+
+// [ 메모 ]
+// - Connection은 한 번에 한 스레드에게만 대여되므로, 이 클래스는 별도의 동기화 없이 사용합니다.
+// - 같은 SQL의 Statement가 아직 사용 중(close 전)이라면, 캐시하지 않은 새 Statement를 따로 준비합니다.
+// - capacity를 넘으면 가장 오래 안 쓴 Statement부터 닫습니다. (LRU)
+
+class StatementCache {
+    private final int capacity;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    StatementCache(int capacity, LongAdder hits, LongAdder misses) {
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= StatementCache.this.capacity) {
+                    return false;
+                }
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    PreparedStatement prepare(Connection physical, String sql) throws SQLException {
+        if (capacity <= 0) {
+            return physical.prepareStatement(sql);
+        }
+        CachedStatement cached = statements.get(sql);
+        if (cached != null && !cached.inUse && !cached.statement.isClosed()) {
+            hits.increment();
+            cached.inUse = true;
+            return cached.proxy;
+        }
+        misses.increment();
+        if (cached != null && cached.inUse) {
+            return physical.prepareStatement(sql);
+        }
+        cached = new CachedStatement(physical.prepareStatement(sql));
+        cached.inUse = true;
+        statements.put(sql, cached);
+        return cached.proxy;
+    }
+
+    void closeAll() {
+        Iterator<CachedStatement> it = statements.values().iterator();
+        while (it.hasNext()) {
+            it.next().evict();
+            it.remove();
+        }
+    }
+
+    private static class CachedStatement implements InvocationHandler {
+        final PreparedStatement statement;
+        final PreparedStatement proxy;
+        boolean inUse = false;
+        boolean evicted = false;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    this);
+        }
+
+        // [메모] 캐시에서 밀려난 Statement는 사용 중이 아닐 때 바로 닫고, 사용 중이면 반납 시점에 닫음
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (inUse) {
+                        inUse = false;
+                        if (evicted) {
+                            closeQuietly();
+                        } else {
+                            statement.clearParameters();
+                            statement.clearBatch();
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return !inUse || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
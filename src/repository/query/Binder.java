@@ -0,0 +1,13 @@
+package repository.query;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+// [ Binder 인터페이스 설명 ]
+// - Binder는 값 하나를 PreparedStatement의 ? 자리들에 채우는 함수형 인터페이스입니다.
+// - 공용 구현체들은 Binders 클래스에 모여 있습니다.
+
+@FunctionalInterface
+public interface Binder<T> {
+    void bind(PreparedStatement pstmt, T value) throws SQLException;
+}
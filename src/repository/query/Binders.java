@@ -0,0 +1,70 @@
+package repository.query;
+
+import managers.ConverterManager;
+import model.ProjectTeam;
+import model.project.Task;
+import model.team.Member;
+import utils.Pair;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+// [ Binders 클래스 설명 ]
+// - Binders는 NamedStatement의 ? 자리 순서에 맞춘 Binder들을 한곳에 모아둔 클래스입니다.
+// - 엔티티의 필드를 DB 저장 형태(한글 유형/상태, 권한 번호, Date)로 바꾸는 일도 여기서 맡습니다.
+
+public class Binders {
+    // [메모] 마감일이 보류된 업무는 9999-12-31로 저장
+    private static final LocalDate NO_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    /* ? 하나에 ID 문자열 */
+    public static final Binder<String> ID = (pstmt, id) -> pstmt.setString(1, id);
+
+    /* *_FIND_PAGE : 마지막으로 받은 ID(없으면 처음부터) / 최대 개수 */
+    public static final Binder<Pair<String, Integer>> PAGE = (pstmt, page) -> {
+        pstmt.setString(1, page.getKey() == null ? "" : page.getKey());
+        pstmt.setInt(2, page.getValue());
+    };
+
+    /* TASK_INSERT : id / name / type / status / end_date / start_date */
+    public static final Binder<Task> TASK_INSERT = (pstmt, task) -> {
+        pstmt.setString(1, task.getTid());
+        pstmt.setString(2, task.getName());
+        pstmt.setString(3, ConverterManager.stringTaskType.convertFrom(task.getType()));
+        pstmt.setString(4, ConverterManager.stringTaskStatus.convertFrom(task.getStatus()));
+        pstmt.setDate(5, toDueDate(task.getDueTo()));
+        pstmt.setDate(6, ConverterManager.stringDate.convertToDate(task.getCreatedAt()));
+    };
+
+    /* TASK_UPDATE : name / status / end_date / id */
+    public static final Binder<Task> TASK_UPDATE = (pstmt, task) -> {
+        pstmt.setString(1, task.getName());
+        pstmt.setString(2, ConverterManager.stringTaskStatus.convertFrom(task.getStatus()));
+        pstmt.setDate(3, toDueDate(task.getDueTo()));
+        pstmt.setString(4, task.getTid());
+    };
+
+    /* MEMBER_INSERT : id / name / auth */
+    public static final Binder<Member> MEMBER_INSERT = (pstmt, member) -> {
+        pstmt.setString(1, member.getMid());
+        pstmt.setString(2, member.getName());
+        pstmt.setString(3, ConverterManager.stringAuthority.convertFrom(member.getAuth()));
+    };
+
+    /* MEMBER_UPDATE : name / auth / id */
+    public static final Binder<Member> MEMBER_UPDATE = (pstmt, member) -> {
+        pstmt.setString(1, member.getName());
+        pstmt.setString(2, ConverterManager.stringAuthority.convertFrom(member.getAuth()));
+        pstmt.setString(3, member.getMid());
+    };
+
+    /* LINK_* : pid / mid */
+    public static final Binder<ProjectTeam> LINK = (pstmt, link) -> {
+        pstmt.setString(1, link.getTaskID());
+        pstmt.setString(2, link.getMemberID());
+    };
+
+    private static Date toDueDate(LocalDate dueTo) {
+        return ConverterManager.stringDate.convertToDate(dueTo == null ? NO_DUE_DATE : dueTo);
+    }
+}
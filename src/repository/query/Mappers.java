@@ -0,0 +1,70 @@
+package repository.query;
+
+import configs.project.TaskStatus;
+import configs.project.TaskType;
+import configs.team.Authority;
+import managers.ConverterManager;
+import model.project.Task;
+import model.team.Member;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// [ Mappers 클래스 설명 ]
+// - Mappers는 테이블별 컬럼 순서와, 그 순서를 따르는 RowMapper들을 한곳에 모아둔 클래스입니다.
+// - SELECT 문은 "SELECT *" 대신 아래 컬럼 목록을 그대로 써서, 컬럼 번호로 값을 꺼낼 수 있게 합니다.
+// - JOIN 결과처럼 앞쪽에 다른 컬럼이 붙는 경우엔 task(offset)처럼 시작 위치를 밀어서 사용합니다.
+
+// [ 메모 ]
+// - projects : id / name / type / status / end_date / start_date
+// - members  : id / name / auth
+
+public class Mappers {
+    private static final String[] TASK_COLUMN_NAMES = {"id", "name", "type", "status", "end_date", "start_date"};
+    private static final String[] MEMBER_COLUMN_NAMES = {"id", "name", "auth"};
+
+    public static final String TASK_COLUMNS = taskColumns(null);
+    public static final String MEMBER_COLUMNS = memberColumns(null);
+
+    public static final RowMapper<Task> TASK = task(0);
+    public static final RowMapper<Member> MEMBER = member(0);
+
+    /* 별칭(alias)이 붙은 projects 컬럼 목록 ex) "p" -> "p.id, p.name, ..." */
+    public static String taskColumns(String alias) {
+        return columns(alias, TASK_COLUMN_NAMES);
+    }
+
+    /* 별칭(alias)이 붙은 members 컬럼 목록 ex) "m" -> "m.id, m.name, m.auth" */
+    public static String memberColumns(String alias) {
+        return columns(alias, MEMBER_COLUMN_NAMES);
+    }
+
+    /* offset개의 컬럼 뒤에서부터 projects 컬럼을 읽는 RowMapper */
+    public static RowMapper<Task> task(int offset) {
+        return rs -> {
+            String tid = rs.getString(offset + 1);
+            String name = rs.getString(offset + 2);
+            TaskType type = ConverterManager.stringTaskType.convertTo(rs.getString(offset + 3));
+            TaskStatus status = ConverterManager.stringTaskStatus.convertTo(rs.getString(offset + 4));
+            LocalDate end_time = rs.getDate(offset + 5).toLocalDate();
+            LocalDate start_time = rs.getDate(offset + 6).toLocalDate();
+            return new Task(tid, name, type, status, end_time, start_time);
+        };
+    }
+
+    /* offset개의 컬럼 뒤에서부터 members 컬럼을 읽는 RowMapper */
+    public static RowMapper<Member> member(int offset) {
+        return rs -> {
+            String mid = rs.getString(offset + 1);
+            String name = rs.getString(offset + 2);
+            Authority auth = ConverterManager.stringAuthority.convertTo(rs.getString(offset + 3));
+            return new Member(mid, name, auth);
+        };
+    }
+
+    private static String columns(String alias, String[] names) {
+        String prefix = alias == null ? "" : alias + ".";
+        return Arrays.stream(names).map(name -> prefix + name).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,120 @@
+package repository.query;
+
+import configs.team.Authority;
+import managers.ConverterManager;
+import model.team.Member;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+// [ MemberQuery 클래스 설명 ]
+// - MemberQuery는 "팀원조회" 조건(권한 / 담당업무 보유 여부)을 하나의 SQL로 바꿔주는 클래스입니다.
+// - 권한 조건은 IN 절로, 담당업무 보유 여부는 project_team에 대한 EXISTS / NOT EXISTS로 거릅니다.
+// - 메모리 저장소에서는 같은 조건을 matches()로 팀원 하나씩 검사합니다.
+// - Builder로 직접 조건을 채우거나, BrowseMembersValidator를 통과한 입력값으로 from()을 호출해 만들 수 있습니다.
+
+// [ 예시 ]
+//   MemberQuery.from(new String[]{"2", "3", "5"}).toSql()
+//   -> SELECT m.id, m.name, m.auth FROM members m WHERE m.auth IN (?,?) AND NOT EXISTS (SELECT 1 FROM project_team pt WHERE pt.mid = m.id)
+
+public class MemberQuery {
+    private final Set<Authority> authorities;
+    private final Boolean hasTasks; // [메모] null이면 담당업무 보유 여부를 따지지 않음
+
+    private MemberQuery(Builder builder) {
+        this.authorities = Collections.unmodifiableSet(builder.authorities);
+        this.hasTasks = builder.hasTasks;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /* 검증된 조회 조건들로 MemberQuery 생성 (@=전체, 1~3=권한, 4=업무 있음, 5=업무 없음) */
+    public static MemberQuery from(String[] inputs) {
+        Builder builder = builder();
+        if (inputs.length == 0 || inputs[0].equals("@")) {
+            return builder.build();
+        }
+        boolean withTasks = false;
+        boolean withoutTasks = false;
+        for (String input : inputs) {
+            switch (input) {
+                case "1" -> builder.authority(Authority.ADMIN);
+                case "2" -> builder.authority(Authority.MEMBER);
+                case "3" -> builder.authority(Authority.VIEWER);
+                case "4" -> withTasks = true;
+                case "5" -> withoutTasks = true;
+                default -> throw new IllegalArgumentException("알 수 없는 조회 조건입니다 : " + input);
+            }
+        }
+        // [메모] 4와 5를 함께 고르면 업무 보유 여부와 무관하게 모두 조회
+        if (withTasks != withoutTasks) {
+            builder.hasTasks(withTasks);
+        }
+        return builder.build();
+    }
+
+    public Set<Authority> getAuthorities() {
+        return authorities;
+    }
+
+    public Boolean getHasTasks() {
+        return hasTasks;
+    }
+
+    /* 조건이 반영된 SELECT 문 (파라미터 자리는 ? 로 남겨둠) */
+    public String toSql() {
+        StringBuilder sql = new StringBuilder("SELECT " + Mappers.memberColumns("m") + " FROM members m");
+        List<String> conditions = new ArrayList<>();
+        if (!authorities.isEmpty()) {
+            conditions.add("m.auth IN (" + String.join(",", Collections.nCopies(authorities.size(), "?")) + ")");
+        }
+        if (hasTasks != null) {
+            conditions.add((hasTasks ? "" : "NOT ") + "EXISTS (SELECT 1 FROM project_team pt WHERE pt.mid = m.id)");
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return sql.toString();
+    }
+
+    /* toSql()의 ? 자리에 순서대로 값 바인딩 */
+    public void bind(PreparedStatement pstmt) throws SQLException {
+        int index = 1;
+        for (Authority authority : authorities) {
+            pstmt.setString(index++, ConverterManager.stringAuthority.convertFrom(authority));
+        }
+    }
+
+    /* toSql()과 같은 조건으로 팀원 하나를 검사 (hasTasks : 팀원ID의 담당업무 보유 여부) */
+    public boolean matches(Member member, Predicate<String> hasTasks) {
+        return (authorities.isEmpty() || authorities.contains(member.getAuth()))
+                && (this.hasTasks == null || this.hasTasks == hasTasks.test(member.getMid()));
+    }
+
+    public static class Builder {
+        private final Set<Authority> authorities = EnumSet.noneOf(Authority.class);
+        private Boolean hasTasks;
+
+        public Builder authority(Authority authority) {
+            this.authorities.add(authority);
+            return this;
+        }
+
+        public Builder hasTasks(boolean hasTasks) {
+            this.hasTasks = hasTasks;
+            return this;
+        }
+
+        public MemberQuery build() {
+            return new MemberQuery(this);
+        }
+    }
+}
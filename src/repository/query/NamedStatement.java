@@ -0,0 +1,63 @@
+package repository.query;
+
+// [ NamedStatement 개요 ]
+// - Repository들이 공유하는 고정 SQL 문장들을 이름 붙여 보관하는 enum입니다.
+// - 호출할 때엔 "NamedStatement.필드명.getSql()"으로 SQL 문자열을 얻을 수 있습니다.
+
+// [ 메모 ]
+// - 필드의 작명 방식은 다음과 같슴다. "대상테이블_동작"  ex) TASK_FIND_BY_ID, LINK_INSERT
+// - SQL 문자열이 매번 같아야 Connection별 StatementCache에서 재사용되므로, 고정 SQL은 꼭 여기서 꺼내 쓰기!
+// - ? 자리 순서는 Binders의 같은 이름 Binder와 맞춰져 있습니다.
+// - *_FIND_PAGE는 기본키(id) 순서의 keyset 페이지 조회로, OFFSET 없이 "마지막으로 받은 ID 다음부터" 읽습니다.
+//   -> 정렬은 문자열 기준이라 t100이 t11보다 앞에 오지만, 순서가 일정하므로 빠짐이나 중복 없이 끝까지 읽을 수 있슴다.
+
+public enum NamedStatement {
+    // [ projects ]
+    TASK_INSERT("INSERT INTO projects (" + Mappers.TASK_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)"),
+    TASK_UPDATE("UPDATE projects SET name = ?, status = ?, end_date = ? WHERE id = ?"),
+    TASK_DELETE("DELETE FROM projects WHERE id = ?"),
+    TASK_FIND_BY_ID("SELECT " + Mappers.TASK_COLUMNS + " FROM projects WHERE id = ?"),
+    TASK_FIND_ALL("SELECT " + Mappers.TASK_COLUMNS + " FROM projects"),
+    TASK_FIND_PAGE("SELECT " + Mappers.TASK_COLUMNS + " FROM projects WHERE id > ? ORDER BY id LIMIT ?"),
+    TASK_EXISTS("SELECT 1 FROM projects WHERE id = ?"),
+    TASK_COUNT("SELECT COUNT(*) FROM projects"),
+    TASK_COUNT_BY_STATUS("SELECT status, COUNT(*) FROM projects GROUP BY status"),
+    // [ members ]
+    MEMBER_INSERT("INSERT INTO members (" + Mappers.MEMBER_COLUMNS + ") VALUES (?, ?, ?)"),
+    MEMBER_UPDATE("UPDATE members SET name = ?, auth = ? WHERE id = ?"),
+    MEMBER_DELETE("DELETE FROM members WHERE id = ?"),
+    MEMBER_FIND_BY_ID("SELECT " + Mappers.MEMBER_COLUMNS + " FROM members WHERE id = ?"),
+    MEMBER_FIND_ALL("SELECT " + Mappers.MEMBER_COLUMNS + " FROM members"),
+    MEMBER_FIND_PAGE("SELECT " + Mappers.MEMBER_COLUMNS + " FROM members WHERE id > ? ORDER BY id LIMIT ?"),
+    MEMBER_EXISTS("SELECT 1 FROM members WHERE id = ?"),
+    MEMBER_COUNT("SELECT COUNT(*) FROM members"),
+    // [ project_team ]
+    LINK_INSERT("INSERT INTO project_team (pid, mid) VALUES (?, ?)"),
+    LINK_DELETE("DELETE FROM project_team WHERE pid = ? AND mid = ?"),
+    LINK_EXISTS("SELECT 1 FROM project_team WHERE pid = ? AND mid = ?"),
+    LINK_FIND_MEMBER_IDS_BY_TASK("SELECT mid FROM project_team WHERE pid = ?"),
+    LINK_FIND_TASK_IDS_BY_MEMBER("SELECT pid FROM project_team WHERE mid = ?"),
+    LINK_FIND_TASKS_BY_MEMBER("SELECT " + Mappers.taskColumns("p")
+            + " FROM project_team pt JOIN projects p ON p.id = pt.pid WHERE pt.mid = ?"),
+    LINK_COUNT_ASSIGNMENT("SELECT (SELECT COUNT(DISTINCT pt.mid) FROM project_team pt JOIN members m ON m.id = pt.mid), "
+            + "(SELECT COUNT(*) FROM members)"),
+    LINK_COUNT_BY_MEMBER("SELECT pt.mid, COUNT(*) FROM project_team pt JOIN members m ON m.id = pt.mid GROUP BY pt.mid"),
+    // [ id_sequence ]
+    SEQUENCE_CREATE("CREATE TABLE IF NOT EXISTS id_sequence (name VARCHAR(16) PRIMARY KEY, next_id BIGINT NOT NULL)"),
+    SEQUENCE_SEED_TASK("INSERT IGNORE INTO id_sequence (name, next_id) "
+            + "SELECT 'task', COALESCE(MAX(CAST(SUBSTRING(id, 2) AS UNSIGNED)), 0) + 1 FROM projects"),
+    SEQUENCE_SEED_MEMBER("INSERT IGNORE INTO id_sequence (name, next_id) "
+            + "SELECT 'member', COALESCE(MAX(CAST(SUBSTRING(id, 2) AS UNSIGNED)), 0) + 1 FROM members"),
+    SEQUENCE_RESERVE("UPDATE id_sequence SET next_id = LAST_INSERT_ID(next_id + ?) WHERE name = ?"),
+    SEQUENCE_LAST_RESERVED("SELECT LAST_INSERT_ID()");
+
+    private String sql;
+
+    private NamedStatement(String sql) {
+        this.sql = sql;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+}
@@ -0,0 +1,200 @@
+package repository.query;
+
+import repository.MakeConnection;
+import repository.UnitOfWork;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// [ QueryExecutor 클래스 설명 ]
+// - QueryExecutor는 Repository들이 반복하던 "Connection 얻기 -> prepare -> bind -> 실행 -> 변환 -> close" 흐름을 한곳에 모은 클래스임다.
+// - SQL은 NamedStatement(또는 TaskQuery/MemberQuery가 만든 문장)로, ? 채우기는 Binder로, 행 변환은 RowMapper로 넘겨받습니다.
+// - prepareStatement(sql)은 ConnectionPool의 StatementCache를 거치므로, 같은 SQL은 Connection마다 한 번만 준비됩니다.
+
+// [ 메모 ]
+// - stream()은 ResultSet을 열어둔 채 한 행씩 변환하는 Stream을 반환합니다. 다 쓴 Stream은 꼭 close() 해야 Connection이 반납됩니다!
+//   -> try (Stream<Task> tasks = ...) { ... } 형태로 사용하기
+// - batch()는 같은 SQL을 여러 행에 반복하는 작업용으로, BATCH_SIZE 단위로 모아 전송하고 전체를 하나의 트랜잭션으로 묶습니다.
+// - 이미 autoCommit이 꺼진 Connection(바깥에서 트랜잭션을 열어둔 경우)이라면 commit/rollback은 바깥에 맡깁니다.
+// - UnitOfWork가 진행 중이라면 update()와 batch()는 바로 실행되지 않고 UnitOfWork에 쌓여, commit 때 전송됩니다.
+
+public class QueryExecutor {
+    private static final int BATCH_SIZE = 1000;
+    private static final Binder<Object> NO_PARAMETER = (pstmt, value) -> {};
+
+    private QueryExecutor() {}
+
+    /* 첫 행만 변환해서 반환 (결과가 없으면 null) */
+    public static <P, T> T queryOne(String sql, Binder<P> binder, P param, RowMapper<T> mapper) throws SQLException {
+        try (Connection conn = connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            binder.bind(pstmt, param);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? mapper.map(rs) : null;
+            }
+        }
+    }
+
+    public static <T> T queryOne(String sql, RowMapper<T> mapper) throws SQLException {
+        return queryOne(sql, NO_PARAMETER, null, mapper);
+    }
+
+    /* 모든 행을 변환해서 조회 순서대로 반환 */
+    public static <P, T> List<T> queryList(String sql, Binder<P> binder, P param, RowMapper<T> mapper) throws SQLException {
+        List<T> rows = new ArrayList<>();
+        try (Connection conn = connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            binder.bind(pstmt, param);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapper.map(rs));
+                }
+            }
+        }
+        return rows;
+    }
+
+    public static <T> List<T> queryList(String sql, RowMapper<T> mapper) throws SQLException {
+        return queryList(sql, NO_PARAMETER, null, mapper);
+    }
+
+    /* fetchSize 단위로 DB에서 받아오며 한 행씩 변환하는 Stream 반환 (Stream을 close 하면 ResultSet과 Connection도 닫힘) */
+    public static <P, T> Stream<T> stream(String sql, Binder<P> binder, P param, RowMapper<T> mapper, int fetchSize) throws SQLException {
+        // [1] Connection을 빌려 커서를 염 (Stream이 닫힐 때까지 들고 있으므로 StatementCache를 거치지 않는 prepareStatement 사용)
+        Connection conn = connect();
+        PreparedStatement pstmt = null;
+        ResultSet rs;
+        try {
+            pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(fetchSize);
+            binder.bind(pstmt, param);
+            rs = pstmt.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(pstmt, conn);
+            throw e;
+        }
+
+        // [2] next()가 호출될 때마다 한 행씩 변환
+        ResultSet cursor = rs;
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!cursor.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(cursor));
+                    return true;
+                } catch (SQLException e) {
+                    throw new IllegalStateException("조회 결과를 읽지 못했습니다.", e);
+                }
+            }
+        };
+
+        // [3] Stream이 닫히면 ResultSet -> Statement -> Connection 순으로 정리
+        PreparedStatement statement = pstmt;
+        return StreamSupport.stream(rows, false).onClose(() -> closeQuietly(cursor, statement, conn));
+    }
+
+    public static <T> Stream<T> stream(String sql, RowMapper<T> mapper, int fetchSize) throws SQLException {
+        return stream(sql, NO_PARAMETER, null, mapper, fetchSize);
+    }
+
+    /* 결과 행이 하나라도 있는지 검사 */
+    public static <P> boolean exists(String sql, Binder<P> binder, P param) throws SQLException {
+        return queryOne(sql, binder, param, rs -> Boolean.TRUE) != null;
+    }
+
+    /* INSERT / UPDATE / DELETE 한 건 실행 후 변경된 행 수 반환 (UnitOfWork에 쌓였다면 SUCCESS_NO_INFO) */
+    public static <P> int update(String sql, Binder<P> binder, P param) throws SQLException {
+        UnitOfWork work = UnitOfWork.deferring();
+        if (work != null) {
+            work.deferBatch(sql, binder, Collections.singletonList(param));
+            return Statement.SUCCESS_NO_INFO;
+        }
+        try (Connection conn = connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            binder.bind(pstmt, param);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /* 같은 SQL을 items 각각에 대해 JDBC batch로 실행 (하나의 Connection, 하나의 트랜잭션) */
+    public static <E> void batch(String sql, Collection<E> items, Binder<E> binder) throws SQLException {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        UnitOfWork work = UnitOfWork.deferring();
+        if (work != null) {
+            work.deferBatch(sql, binder, items);
+            return;
+        }
+        try (Connection conn = connect()) {
+            // [1] 트랜잭션 시작 (바깥 트랜잭션이 없을 때만)
+            boolean ownsTransaction = conn.getAutoCommit();
+            if (ownsTransaction) {
+                conn.setAutoCommit(false);
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                // [2] BATCH_SIZE 단위로 모아서 전송
+                int pending = 0;
+                for (E item : items) {
+                    binder.bind(pstmt, item);
+                    pstmt.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        pstmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    pstmt.executeBatch();
+                }
+                // [3] 모두 성공했을 때만 commit
+                if (ownsTransaction) {
+                    conn.commit();
+                }
+            } catch (SQLException e) {
+                if (ownsTransaction) {
+                    conn.rollback();
+                }
+                throw e;
+            } finally {
+                if (ownsTransaction) {
+                    conn.setAutoCommit(true);
+                }
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        Connection conn = MakeConnection.getConnection();
+        if (conn == null) {
+            throw new SQLException("Connection을 얻지 못했습니다.");
+        }
+        return conn;
+    }
+}
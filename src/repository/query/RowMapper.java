@@ -0,0 +1,13 @@
+package repository.query;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// [ RowMapper 인터페이스 설명 ]
+// - RowMapper는 ResultSet의 현재 행 하나를 엔티티 하나로 변환하는 함수형 인터페이스입니다.
+// - 공용 구현체들은 Mappers 클래스에 모여 있습니다.
+
+@FunctionalInterface
+public interface RowMapper<T> {
+    T map(ResultSet rs) throws SQLException;
+}
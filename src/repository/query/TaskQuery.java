@@ -0,0 +1,133 @@
+package repository.query;
+
+import configs.project.TaskStatus;
+import configs.project.TaskType;
+import managers.ConverterManager;
+import model.project.Task;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+// [ TaskQuery 클래스 설명 ]
+// - TaskQuery는 "업무조회" 조건(유형 / 상태 / 담당자ID)을 파라미터가 바인딩되는 SQL로 바꿔주는 클래스입니다.
+// - 조건이 지정된 항목만 WHERE 절에 추가되며, 담당자 조건은 project_team을 JOIN해서 거릅니다.
+// - 메모리 저장소에서는 같은 조건을 matches()로 업무 하나씩 검사합니다.
+// - Builder로 직접 조건을 채우거나, BrowseTasksValidator를 통과한 입력값으로 from()을 호출해 만들 수 있습니다.
+
+// [ 예시 ]
+//   TaskQuery.from(new String[]{"1,2", "3,m05"}).toSql()
+//   -> SELECT p.id, p.name, ... FROM projects p JOIN project_team pt ON pt.pid = p.id AND pt.mid = ? WHERE p.type = ?
+
+public class TaskQuery {
+    private final TaskType type;
+    private final TaskStatus status;
+    private final String assignee;
+
+    private TaskQuery(Builder builder) {
+        this.type = builder.type;
+        this.status = builder.status;
+        this.assignee = builder.assignee;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /* 검증된 "기준,조건" 입력값들로 TaskQuery 생성 (1=유형, 2=상태, 3=담당자ID) */
+    public static TaskQuery from(String[] inputs) {
+        Builder builder = builder();
+        for (String input : inputs) {
+            String[] field = input.split(",");
+            String criteria = field[0];
+            String condition = field[1];
+            switch (criteria) {
+                case "1" -> builder.type(ConverterManager.stringTaskType.convertTo(condition));
+                case "2" -> builder.status(ConverterManager.stringTaskStatus.convertTo(condition));
+                case "3" -> builder.assignee(condition);
+                default -> throw new IllegalArgumentException("알 수 없는 조회 기준입니다 : " + criteria);
+            }
+        }
+        return builder.build();
+    }
+
+    public TaskType getType() {
+        return type;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public String getAssignee() {
+        return assignee;
+    }
+
+    /* 조건이 반영된 SELECT 문 (파라미터 자리는 ? 로 남겨둠) */
+    public String toSql() {
+        StringBuilder sql = new StringBuilder("SELECT " + Mappers.taskColumns("p") + " FROM projects p");
+        if (assignee != null) {
+            // [메모] project_team의 기본키가 (pid, mid)라서 JOIN해도 업무가 중복되지 않음
+            sql.append(" JOIN project_team pt ON pt.pid = p.id AND pt.mid = ?");
+        }
+        List<String> conditions = new ArrayList<>();
+        if (type != null) {
+            conditions.add("p.type = ?");
+        }
+        if (status != null) {
+            conditions.add("p.status = ?");
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return sql.toString();
+    }
+
+    /* toSql()의 ? 자리에 순서대로 값 바인딩 */
+    public void bind(PreparedStatement pstmt) throws SQLException {
+        int index = 1;
+        if (assignee != null) {
+            pstmt.setString(index++, assignee);
+        }
+        if (type != null) {
+            pstmt.setString(index++, ConverterManager.stringTaskType.convertFrom(type));
+        }
+        if (status != null) {
+            pstmt.setString(index, ConverterManager.stringTaskStatus.convertFrom(status));
+        }
+    }
+
+    /* toSql()과 같은 조건으로 업무 하나를 검사 (isAssigned : (업무ID, 팀원ID) 배정 여부) */
+    public boolean matches(Task task, BiPredicate<String, String> isAssigned) {
+        return (type == null || task.getType() == type)
+                && (status == null || task.getStatus() == status)
+                && (assignee == null || isAssigned.test(task.getTid(), assignee));
+    }
+
+    public static class Builder {
+        private TaskType type;
+        private TaskStatus status;
+        private String assignee;
+
+        public Builder type(TaskType type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder status(TaskStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder assignee(String mid) {
+            this.assignee = mid;
+            return this;
+        }
+
+        public TaskQuery build() {
+            return new TaskQuery(this);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package utils;
 
 import configs.project.TaskStatus;
+import configs.project.TaskType;
 import configs.team.Authority;
 import controller.controllers.ProjectController;
 import controller.controllers.TeamController;
@@ -10,15 +11,40 @@ import model.project.Project;
 import model.project.Task;
 import model.team.Member;
 import model.team.Team;
+import repository.MemberRepository;
+import repository.ProjectRepository;
+import repository.ProjectTeamRepository;
 import utils.console.Viewer;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 // [ FuncTest 클래스 설명 ]
 // - FuncTest는 코드가 의도대로 작동하는지 확인하기 위한 클래스임다.
 // - addDummy 메서드들은 각각 더미 Task와 Member 인스턴스를 생성할 수 있습니다.
 // - dummyCount 필드를 통해 생성될 인스턴스의 개수를 조절할 수 있습니다.
 // - show 메서드들은 각각 전체 프로젝트와 전체 팀의 데이터를 확인할 수 있습니다.
+// - checkCrashRecovery 메서드는 메모리 저장소의 WAL이 강제 종료와 손상된 꼬리에서 제대로 복구되는지 확인합니다.
+
+// [ 메모 ]
+// - checkCrashRecovery()는 별도의 JVM(main 메서드)을 띄워 쓰기 후 Runtime.halt()로 죽이고, 다시 띄워 복구된 내용을 비교합니다.
+//   -> 종료 hook도 돌지 않는 강제 종료이므로, 완료 응답을 받은 쓰기가 fsync 되어 있는지 그대로 확인할 수 있슴다.
 
 public class FuncTest {
     private static final int dummyCount = 15;
@@ -26,6 +52,7 @@ public class FuncTest {
     /* Project에 더미 데이터 추가 */
     public static void addDummyTasks() {
         ProjectController pc = Project.getInstance().controller;
+        List<String[]> dummies = new ArrayList<>();
 
         for (int i = 1; i <= dummyCount; i++) {
             String dummy = "%s/%s/%s/%s";
@@ -36,8 +63,10 @@ public class FuncTest {
             String end_date = "@";
             dummy = String.format(dummy, name, type, teammates, end_date);
             Pair<Boolean,String> pair = ValidatorManager.addTask.check(dummy);
-            pc.add(pair.getValue().split("/"));
+            dummies.add(pair.getValue().split("/"));
         }
+        // [메모] 한 건씩 저장하면 왕복이 dummyCount번 생기므로 batch로 한 번에 저장
+        pc.addAll(dummies);
     }
 
     /* Project 현황 확인 */
@@ -55,19 +84,21 @@ public class FuncTest {
     /* Team에 더미 데이터 추가 */
     public static void addDummyMembers() {
         TeamController tc = Team.getInstance().controller;
+        List<String[]> dummies = new ArrayList<>();
 
         for (int i = 1; i <= dummyCount; i++) {
             String dummy_add = "%s/%s";
             String name = i < 10 ? "팀원0" + i : "팀원" + i;
             String auth = new Random().nextInt(2) + 1 + "";
             Pair<Boolean, String> pair = ValidatorManager.inviteMember.check(String.format(dummy_add,name,auth));
-            tc.add(pair.getValue().split("/"));
+            dummies.add(pair.getValue().split("/"));
 
 //            // [메모] 업무가 없는 더미도 만들기 위해 10번까지만 Task 할당
 //            if (i < 10) {
 //                dummy.addTask(Project.getInstance().controller.get("t0" + i));
 //            }
         }
+        tc.addAll(dummies);
     }
 
     /* Team 현황 확인 */
@@ -82,4 +113,150 @@ public class FuncTest {
                 %d
                 """, members, Team.getInstance().controller.getAll().size()));
     }
+
+    /* 메모리 저장소 WAL 충돌 복구 확인 */
+    public static void checkCrashRecovery() {
+        StringBuilder result = new StringBuilder();
+        try {
+            // [1] 스냅샷 + 꼬리 재실행 : 스냅샷이 여러 번 생기도록 주기를 짧게 두고 강제 종료
+            result.append(crashCase("강제 종료 후 복구", 25, dir -> {}, "AFTER"));
+            // [2] 기록 도중 죽어 마지막 레코드가 반쯤 쓰인 경우 -> 잘라내고 마지막 완료 상태로 복구
+            result.append(crashCase("반쯤 쓰인 꼬리 정리", 25, dir -> Files.write(lastSegment(dir),
+                    new byte[]{0, 0, 0, 64, 1, 2, 3, 4, 5, 6, 7}, StandardOpenOption.APPEND), "AFTER"));
+            // [3] 마지막 레코드가 손상된 경우 -> CRC 불일치로 버리고 그 직전 상태로 복구 (스냅샷 없이 WAL만 사용)
+            result.append(crashCase("손상된 마지막 레코드 폐기", 1_000_000, dir -> {
+                try (RandomAccessFile file = new RandomAccessFile(lastSegment(dir).toFile(), "rw")) {
+                    file.seek(file.length() - 1);
+                    int last = file.read();
+                    file.seek(file.length() - 1);
+                    file.write(last ^ 0xFF);
+                }
+            }, "BEFORE"));
+        } catch (IOException | InterruptedException e) {
+            result.append("!! 복구 확인 실행 실패 : ").append(e.getMessage()).append(" !!\n");
+        }
+
+        Viewer.print(String.format("""
+                [WAL 복구 확인]
+                %s""", result));
+    }
+
+    // [메모] checkCrashRecovery()가 띄우는 자식 JVM의 진입점
+    public static void main(String[] args) throws SQLException {
+        if (args.length > 0 && args[0].equals("crash-write")) {
+            writeThenCrash();
+        } else if (args.length > 0 && args[0].equals("crash-verify")) {
+            long started = System.nanoTime();
+            ProjectRepository.getInstance().count(); // [메모] 첫 접근 시 스냅샷 + WAL 복구
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+            System.out.println("DIGEST " + digest());
+            System.out.println("RECOVERY " + elapsedMs);
+        } else {
+            checkCrashRecovery();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Corruption {
+        void apply(Path dir) throws IOException;
+    }
+
+    private static String crashCase(String title, int snapshotEvery, Corruption corruption, String expectedKey) throws IOException, InterruptedException {
+        Path dir = Files.createTempDirectory("pmt-wal-check");
+        try {
+            Map<String, String> written = runChild(dir, snapshotEvery, "crash-write");
+            corruption.apply(dir);
+            Map<String, String> recovered = runChild(dir, snapshotEvery, "crash-verify");
+            boolean ok = written.get(expectedKey) != null && written.get(expectedKey).equals(recovered.get("DIGEST"));
+            return String.format("%s : %s (복구 %sms)\n   기대 %s\n   결과 %s\n",
+                    title, ok ? "성공" : "!! 실패 !!", recovered.get("RECOVERY"), written.get(expectedKey), recovered.get("DIGEST"));
+        } finally {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    /* 같은 classpath로 자식 JVM 실행 후 "키 값" 형태의 출력 수집 */
+    private static Map<String, String> runChild(Path dir, int snapshotEvery, String mode) throws IOException, InterruptedException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process process = new ProcessBuilder(java,
+                "-Dfile.encoding=UTF-8",
+                "-Dpmt.storage=memory",
+                "-Dpmt.wal.dir=" + dir.toAbsolutePath(),
+                "-Dpmt.wal.snapshotEvery=" + snapshotEvery,
+                "-cp", System.getProperty("java.class.path"),
+                FuncTest.class.getName(), mode)
+                .redirectErrorStream(true)
+                .start();
+        Map<String, String> outputs = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int space = line.indexOf(' ');
+                if (space > 0) {
+                    outputs.put(line.substring(0, space), line.substring(space + 1));
+                }
+            }
+        }
+        process.waitFor();
+        return outputs;
+    }
+
+    /* 업무 / 팀원 / 배정을 고루 쓰고, 마지막 쓰기 전후의 상태를 출력한 뒤 강제 종료 */
+    private static void writeThenCrash() throws SQLException {
+        ProjectRepository projects = ProjectRepository.getInstance();
+        MemberRepository members = MemberRepository.getInstance();
+        ProjectTeamRepository links = ProjectTeamRepository.getInstance();
+
+        for (int i = 1; i <= 10; i++) {
+            members.save(new Member(String.format("m%02d", i), "팀원" + i, Authority.values()[i % 3]));
+        }
+        for (int i = 1; i <= 40; i++) {
+            String tid = String.format("t%02d", i);
+            projects.save(new Task(tid, "업무/" + i, TaskType.values()[i % 4], TaskStatus.NOT_STARTED, LocalDate.of(2024, 1, 1).plusDays(i)));
+            links.addMemberToProject(tid, String.format("m%02d", i % 10 + 1));
+        }
+        for (int i = 1; i <= 40; i += 3) {
+            projects.update(new Task(String.format("t%02d", i), "수정된 업무" + i, TaskType.ETC, TaskStatus.IN_PROGRESS, null));
+        }
+        projects.deleteById("t05");
+        members.deleteById("m02");
+        links.removeMemberFromProject("t07", "m08");
+
+        System.out.println("BEFORE " + digest());
+        projects.update(new Task("t01", "마지막 쓰기", TaskType.ETC, TaskStatus.COMPLETED, null));
+        System.out.println("AFTER " + digest());
+        System.out.flush();
+        Runtime.getRuntime().halt(0);
+    }
+
+    /* 저장소 전체 내용 요약 (개수 + 내용 해시) */
+    private static String digest() throws SQLException {
+        StringBuilder content = new StringBuilder();
+        int linkCount = 0;
+        for (Task task : ProjectRepository.getInstance().findAll()) {
+            content.append(task.getTid()).append('|').append(task.getName()).append('|').append(task.getType()).append('|')
+                    .append(task.getStatus()).append('|').append(task.getDueTo()).append('|').append(task.getCreatedAt()).append('\n');
+            for (String mid : new TreeSet<>(ProjectTeamRepository.getInstance().findMemberIdsOf(task.getTid()))) {
+                content.append("  ").append(mid).append('\n');
+                linkCount++;
+            }
+        }
+        for (Member member : MemberRepository.getInstance().findAll()) {
+            content.append(member.getMid()).append('|').append(member.getName()).append('|').append(member.getAuth()).append('\n');
+        }
+        return String.format("tasks=%d members=%d links=%d hash=%08x",
+                ProjectRepository.getInstance().count(), MemberRepository.getInstance().count(), linkCount, content.toString().hashCode());
+    }
+
+    /* 가장 최근에 기록된(비어 있지 않은) WAL segment */
+    private static Path lastSegment(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.list(dir)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("wal-"))
+                    .filter(path -> path.toFile().length() > 0)
+                    .max(Comparator.comparingLong(path -> Long.parseLong(path.getFileName().toString().replaceAll("\\D", ""))))
+                    .orElseThrow(() -> new IOException("WAL segment가 없습니다 : " + dir));
+        }
+    }
 }
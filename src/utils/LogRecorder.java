@@ -1,33 +1,132 @@
 package utils;
 
+import configs.log.LogConfig;
 import configs.message.Ingredient;
-import managers.ConverterManager;
-import managers.messageBuild.MessageBuilder;
+import model.event.DomainEvent;
+import model.event.MemberDismissed;
+import model.event.MemberInvited;
+import model.event.MemberUpdated;
+import model.event.TaskCreated;
+import model.event.TaskRemoved;
+import model.event.TaskUpdated;
+import utils.event.EventBus;
+import utils.log.ActivityLog;
+import utils.log.LogEvent;
+import utils.log.LogRing;
 
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.LinkedList;
+import java.time.ZoneId;
+import java.util.List;
 
 // [ LogRecorder 클래스 설명 ]
 // - LogRecorder는 사용자의 프로그램 이용에 대한 기록을 관리하기 위한 클래스임다.
+// - record()는 로그를 LogEvent(시각, 종류, 대상)로 만들어 최근 기록(LogRing)에 넣고, ActivityLog에 파일 기록을 맡긴 뒤 바로 돌아옵니다.
+// - 기록은 LogConfig.DIR 아래 구간(segment) 파일들에 남아, 재시작하면 최근 기록을 다시 불러오고 query()로 기간 / 종류별로 찾아볼 수 있슴다.
 
 // [ 메모 ]
-// - logRepo에 저장될 log의 개수는 30개로 제한합니다. -> add()에서 size()를 체크해 조절합니다.
+// - recent에 보관할 log의 개수는 32개로 제한합니다. -> 원형 버퍼라 넘치면 가장 오래된 것부터 덮어씁니다.
+// - 여러 스레드에서 동시에 record() 해도 안전하며, lock이나 파일 쓰기를 기다리지 않슴다.
+// - 문자열은 record() 때가 아니라 getRecentLogs()에서 최근 5건만 만듭니다.
+//   -> 만든 문자열은 그때까지의 기록 수(version)와 함께 보관해, 새 기록이 없다면 홈 화면을 다시 그려도 그대로 돌려줍니다.
+// - HomeFunc은 System.exit(0)으로 끝나므로, 종료 hook에서 아직 쓰이지 않은 로그를 모두 파일에 씁니다.
+// - 업무/팀원의 등록/수정/삭제 로그는 subscribeTo()로 EventBus를 비동기 구독해서 남깁니다. (컨트롤러가 DB에 반영한 것만 기록됨)
 
 public class LogRecorder {
-    private static final LinkedList<String> logRepo = new LinkedList<>();
+    private static final int KEEP = 32;
+    private static final int SHOWN = 5;
+    private static final long CLOSE_TIMEOUT_MS = 2000;
+
+    private static final LogRing recent = new LogRing(KEEP);
+    private static final ActivityLog activityLog = ActivityLog.open(
+            Path.of(LogConfig.DIR.getValue()),
+            LogConfig.QUEUE_CAPACITY.getInt(),
+            LogConfig.FLUSH_INTERVAL_MS.getLong(),
+            LogConfig.SEGMENT_BYTES.getLong(),
+            LogConfig.RETENTION_DAYS.getLong(),
+            LogConfig.MAX_SEGMENTS.getInt());
+
+    // [메모] 마지막으로 만든 최근 기록 문자열과, 그 문자열이 반영한 기록 수
+    private record Rendered(long version, String text) {}
+    private static volatile Rendered rendered = new Rendered(-1, null);
+    // [메모] 종료 시 이 버스에 남은 이벤트를 먼저 로그로 받은 뒤 파일을 닫음
+    private static volatile EventBus source;
+
+    static {
+        activityLog.loadRecent(KEEP).forEach(recent::add);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            EventBus bus = source;
+            if (bus != null) {
+                bus.close(CLOSE_TIMEOUT_MS);
+            }
+            activityLog.close(CLOSE_TIMEOUT_MS);
+        }, "activity-log-flush"));
+    }
 
     public static void record(Ingredient type, String msg) {
-        logRepo.addLast(String.format(type.getFormat(),ConverterManager.stringDateTime.convertFrom(LocalDateTime.now()),msg));
-        if (logRepo.size() >= 30) logRepo.removeFirst();
+        LogEvent event = new LogEvent(System.currentTimeMillis(), type, msg);
+        recent.add(event);
+        activityLog.append(event);
     }
 
-    public static String getRecentLogs() {
-        return logRepo.stream().sorted(Comparator.reverseOrder()).limit(5).reduce(MessageBuilder::integrate).orElseGet(()->"기록된 활동이 없습니다!");
+    /* 도메인 이벤트를 활동 로그로 남기도록 구독 (전달 스레드가 모아서 기록하므로 발행한 쪽은 기다리지 않음) */
+    public static void subscribeTo(EventBus bus) {
+        source = bus;
+        bus.subscribeAsync(DomainEvent.class, events -> events.forEach(LogRecorder::record));
     }
 
-}
+    private static void record(DomainEvent event) {
+        if (event instanceof TaskCreated created) {
+            record(Ingredient.LOG_ADD_TASK, created.name());
+        } else if (event instanceof TaskUpdated updated) {
+            record(Ingredient.LOG_UPDATE_TASK_INFO, updated.name());
+        } else if (event instanceof TaskRemoved removed) {
+            record(Ingredient.LOG_REMOVE_TASK, removed.name());
+        } else if (event instanceof MemberInvited invited) {
+            record(Ingredient.LOG_INVITE_MEMBER, invited.name());
+        } else if (event instanceof MemberUpdated updated) {
+            record(Ingredient.LOG_UPDATE_MEMBER_INFO, updated.name());
+        } else if (event instanceof MemberDismissed dismissed) {
+            record(Ingredient.LOG_DISMISS_MEMBER, dismissed.name());
+        }
+        // [메모] 배정 변경(AssignmentChanged)은 업무/팀원 수정 로그에 포함되므로 따로 남기지 않음
+    }
 
+    /* 기간(from ~ to) 안의 활동 로그 중 types 종류만 오래된 것부터 (types를 비우면 모든 종류, 파일에 쓰인 로그만 조회됨) */
+    public static List<LogEvent> query(LocalDateTime from, LocalDateTime to, Ingredient... types) {
+        return activityLog.query(toMillis(from), toMillis(to), List.of(types));
+    }
 
+    public static String getRecentLogs() {
+        // [1] 새 기록이 없다면 만들어둔 문자열 그대로
+        Rendered cached = rendered;
+        if (cached.version() == recent.version()) {
+            return cached.text();
+        }
+        // [2] 최근 것부터 5건만 문자열로 만듦
+        LogRing.Snapshot snapshot = recent.newest(SHOWN);
+        String text;
+        if (snapshot.size() == 0) {
+            text = "기록된 활동이 없습니다!";
+        } else {
+            StringBuilder sb = new StringBuilder(SHOWN * 64);
+            for (int i = 0; i < snapshot.size(); i++) {
+                if (i > 0) {
+                    sb.append('\n');
+                }
+                sb.append(snapshot.events()[i].format());
+            }
+            text = sb.toString();
+        }
+        // [메모] 쓰는 중인 칸을 건너뛴 결과는 보관하지 않음 (다음 호출에서 다시 만듦)
+        if (snapshot.complete()) {
+            rendered = new Rendered(snapshot.version(), text);
+        }
+        return text;
+    }
 
+    private static long toMillis(LocalDateTime at) {
+        return at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 
+}
@@ -0,0 +1,52 @@
+package utils.cache;
+
+// [ CacheStats 클래스 설명 ]
+// - CacheStats는 EntityCache.getStats() 호출 시점의 캐시 상태를 담는 불변 클래스입니다.
+// - 적중률(hitRate)이 낮다면 DBConfig.ENTITY_CACHE_SIZE를 늘리는 것을 고려할 수 있습니다.
+
+public class CacheStats {
+    private final int capacity;
+    private final int size;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public CacheStats(int capacity, int size, long hits, long misses, long evictions) {
+        this.capacity = capacity;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cache[capacity=%d, size=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.2f]",
+                capacity, size, hits, misses, evictions, getHitRate());
+    }
+}
@@ -0,0 +1,144 @@
+package utils.cache;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// [ EntityCache 클래스 설명 ]
+// - EntityCache는 Repository 앞에 놓이는 ID -> 엔티티 보관함(Identity Map)입니다.
+// - get(id, loader)는 보관된 인스턴스가 있으면 DB를 거치지 않고 돌려주고, 없을 때만 loader로 불러와 보관합니다. (read-through)
+// - Controller는 DB 저장에 성공한 직후 put()으로, 수정/삭제 후에는 put() 또는 invalidate()로 보관함을 맞춰줍니다. (write-through)
+// - capacity를 넘으면 가장 오래 안 쓴 엔티티부터 밀어냅니다. (LRU)
+
+// [ 메모 ]
+// - loader 호출(DB 조회)은 락 밖에서 수행하므로, 조회가 오래 걸려도 다른 스레드의 캐시 접근을 막지 않습니다.
+//   -> 조회 중인 키는 pending에 표시해두고, 그 사이 put / invalidate 되었다면 조회 결과를 보관하지 않슴다.
+//      (삭제나 수정 직전에 읽은 값이 뒤늦게 들어와 보관함에 남는 일이 없도록)
+// - DB에 없는 ID(loader가 null 반환)는 보관하지 않습니다.
+
+public class EntityCache<K, V> {
+    // [메모] Repository의 findById 처럼 SQLException을 던지는 조회 함수
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws SQLException;
+    }
+
+    private final int capacity;
+    private final Function<V, K> keyOf;
+    private final LinkedHashMap<K, V> entries;
+    // [메모] loader로 조회 중인 키 -> 그 조회들의 표시 (조회가 모두 끝나면 지움)
+    private final Map<K, PendingLoad> pending = new HashMap<>();
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public EntityCache(int capacity, Function<V, K> keyOf) {
+        this.capacity = capacity;
+        this.keyOf = keyOf;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= EntityCache.this.capacity) {
+                    return false;
+                }
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    // [메모] 같은 키를 동시에 조회 중인 스레드 수와, 그 사이 보관함의 값이 바뀌었는지 여부
+    private static final class PendingLoad {
+        int loaders = 0;
+        boolean stale = false;
+    }
+
+    /* 보관된 엔티티 반환, 없으면 loader로 불러와 보관 후 반환 */
+    public V get(K key, Loader<K, V> loader) throws SQLException {
+        PendingLoad load;
+        synchronized (this) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            load = pending.computeIfAbsent(key, k -> new PendingLoad());
+            load.loaders++;
+        }
+        V loaded = null;
+        try {
+            loaded = loader.load(key);
+        } finally {
+            synchronized (this) {
+                if (--load.loaders == 0) {
+                    pending.remove(key);
+                }
+                // [메모] 조회 중에 put / invalidate 됐다면 읽은 값은 이미 낡았을 수 있으므로 보관하지 않고 돌려주기만 함
+                if (loaded != null && !load.stale) {
+                    loaded = internLocked(loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /* DB에서 새로 읽어온 엔티티를 보관된 인스턴스로 치환 (없으면 그대로 보관) */
+    public synchronized V intern(V loaded) {
+        return internLocked(loaded);
+    }
+
+    private V internLocked(V loaded) {
+        V cached = entries.putIfAbsent(keyOf.apply(loaded), loaded);
+        return cached == null ? loaded : cached;
+    }
+
+    /* DB 저장/수정에 성공한 엔티티를 보관 (같은 ID는 덮어씀) */
+    public synchronized void put(V value) {
+        K key = keyOf.apply(value);
+        entries.put(key, value);
+        markStale(key);
+    }
+
+    public synchronized void putAll(Collection<V> values) {
+        for (V value : values) {
+            put(value);
+        }
+    }
+
+    /* DB에서 삭제됐거나, DB와 내용이 어긋났을 수 있는 엔티티를 보관함에서 제거 */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        markStale(key);
+    }
+
+    public synchronized void invalidateAll(Collection<K> keys) {
+        for (K key : keys) {
+            invalidate(key);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        pending.values().forEach(load -> load.stale = true);
+    }
+
+    // [메모] 조회 중인 키라면, 그 조회 결과는 보관하지 않도록 표시
+    private void markStale(K key) {
+        PendingLoad load = pending.get(key);
+        if (load != null) {
+            load.stale = true;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(capacity, entries.size(), hits, misses, evictions);
+    }
+}
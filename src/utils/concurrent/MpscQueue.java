@@ -0,0 +1,66 @@
+package utils.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// [ MpscQueue 클래스 설명 ]
+// - MpscQueue는 여러 스레드가 넣고(Multi Producer) 한 스레드만 꺼내는(Single Consumer) 크기 고정 큐임다.
+// - lock 없이 칸마다 붙은 순번(sequence)과 CAS 만으로 동작하며, 가득 차면 기다리지 않고 offer()가 false를 돌려줍니다.
+
+// [ 메모 ]
+// - 칸 i의 순번이 "넣을 차례(tail)"와 같으면 빈 칸, tail + 1 이면 값이 채워진 칸입니다.
+//   -> 꺼낸 칸은 순번을 한 바퀴(capacity) 뒤로 돌려, 다음 바퀴의 생산자가 쓸 수 있게 합니다.
+// - poll()은 꼭 한 스레드에서만 불러야 합니다.
+
+public final class MpscQueue<E> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0;  // [메모] 소비자 스레드만 읽고 씀
+
+    public MpscQueue(int requested) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requested - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /* 넣기 (가득 찼다면 넣지 않고 false) */
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                // [메모] 칸을 먼저 차지한 뒤 값을 넣고, 순번을 올려 소비자에게 공개
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+            // [메모] 다른 생산자가 먼저 차지했다면 다음 칸으로 재시도
+        }
+    }
+
+    /* 꺼내기 (비어있다면 null) */
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + capacity);
+        head++;
+        return element;
+    }
+}
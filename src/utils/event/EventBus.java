@@ -0,0 +1,178 @@
+package utils.event;
+
+import configs.event.EventConfig;
+import model.event.DomainEvent;
+import utils.concurrent.MpscQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// [ EventBus 클래스 설명 ]
+// - EventBus는 컨트롤러가 발행한 DomainEvent를 구독자들에게 전달하는 프로그램 내부용 이벤트 버스임다.
+// - 구독 방식은 두 가지입니다.
+//   -> subscribe()      : 발행한 스레드에서 바로 호출 (발행이 끝나기 전에 반영돼야 하는 통계 등)
+//   -> subscribeAsync() : 전달 스레드 하나가 모아서 List로 한 번에 호출 (로그 기록처럼 늦어도 되는 일)
+// - 구독할 타입을 DomainEvent.class로 주면 모든 이벤트를 받습니다.
+
+// [ 예시 ]
+//   EventBus.getInstance().subscribe(TaskCreated.class, event -> ...);
+//   EventBus.getInstance().subscribeAsync(TaskRemoved.class, events -> ...);
+//   EventBus.getInstance().publish(new TaskCreated(tid, name, status));
+
+// [ 메모 ]
+// - publish()는 lock 없이 동기 구독자를 부르고, 비동기 구독자가 있을 때만 MpscQueue에 넣은 뒤 돌아옵니다.
+// - 큐가 가득 차면 ActivityLog와 같이 기다리지 않고 버리며, 버린 개수는 dropped()로 확인합니다.
+//   -> 빠뜨리면 안 되는 구독자는 subscribe()로 등록해야 합니다.
+// - version()은 발행된 이벤트 수로, 동기 구독자가 모두 반영한 뒤에 올라갑니다.
+//   -> 컨트롤러는 DB에 반영할 때마다 발행하므로, 데이터가 바뀌었는지 확인하는 전역 버전으로 씁니다. (홈 화면 Dashboard 등)
+// - 구독자에서 난 예외는 다른 구독자와 발행한 쪽에 번지지 않도록 여기서 끊습니다.
+// - 전달 스레드는 daemon 스레드이며, 종료 hook에서 남은 이벤트를 마저 전달합니다. (close())
+
+public class EventBus {
+    private static final long CLOSE_TIMEOUT_MS = 2000;
+
+    private static final EventBus instance = new EventBus(
+            EventConfig.QUEUE_CAPACITY.getInt(),
+            EventConfig.MAX_BATCH.getInt(),
+            EventConfig.IDLE_MS.getLong());
+    public static EventBus getInstance() {
+        return instance;
+    }
+
+    // [메모] type에 해당하는 이벤트만 골라 handler에 넘기는 구독자
+    private record Subscriber<E extends DomainEvent>(Class<E> type, Consumer<? super E> handler) {
+        void deliver(DomainEvent event) {
+            if (type.isInstance(event)) {
+                handler.accept(type.cast(event));
+            }
+        }
+    }
+
+    private record BatchSubscriber<E extends DomainEvent>(Class<E> type, Consumer<? super List<E>> handler) {
+        void deliver(List<DomainEvent> batch) {
+            List<E> matched = new ArrayList<>();
+            for (DomainEvent event : batch) {
+                if (type.isInstance(event)) {
+                    matched.add(type.cast(event));
+                }
+            }
+            if (!matched.isEmpty()) {
+                handler.accept(matched);
+            }
+        }
+    }
+
+    private final List<Subscriber<?>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<BatchSubscriber<?>> batchSubscribers = new CopyOnWriteArrayList<>();
+    private final MpscQueue<DomainEvent> queue;
+    private final int maxBatch;
+    private final long idleNanos;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private final Thread dispatcher;
+    private volatile boolean closing = false;
+
+    private EventBus(int capacity, int maxBatch, long idleMs) {
+        this.queue = new MpscQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+        // [메모] 가상 스레드는 JDK 21부터라, 전달 스레드 하나를 daemon 플랫폼 스레드로 둠
+        this.dispatcher = new Thread(this::run, "event-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> close(CLOSE_TIMEOUT_MS), "event-bus-drain"));
+    }
+
+    // [ 구독 / 발행 ]
+
+    public <E extends DomainEvent> void subscribe(Class<E> type, Consumer<? super E> handler) {
+        subscribers.add(new Subscriber<>(type, handler));
+    }
+
+    public <E extends DomainEvent> void subscribeAsync(Class<E> type, Consumer<? super List<E>> handler) {
+        batchSubscribers.add(new BatchSubscriber<>(type, handler));
+    }
+
+    public void publish(DomainEvent event) {
+        // [1] 동기 구독자는 발행한 스레드에서 바로
+        for (Subscriber<?> subscriber : subscribers) {
+            try {
+                subscriber.deliver(event);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        // [2] 동기 구독자가 반영을 마친 뒤 버전을 올림 (버전이 같다면 동기 구독자가 가진 값도 그대로)
+        version.incrementAndGet();
+        // [3] 비동기 구독자가 있다면 큐에 넣고 전달 스레드를 깨움 (가득 찼다면 버림)
+        if (!batchSubscribers.isEmpty()) {
+            if (queue.offer(event)) {
+                LockSupport.unpark(dispatcher);
+            } else {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    /* 지금까지 발행된 이벤트 수 (데이터 버전) */
+    public long version() {
+        return version.get();
+    }
+
+    /* 큐가 가득 차서 비동기 구독자에게 전달하지 못한 이벤트 수 */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /* 남은 이벤트를 모두 전달하고 전달 스레드 종료 (timeoutMs까지만 기다림, 여러 번 불러도 됨) */
+    public void close(long timeoutMs) {
+        closing = true;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // [ 전달 스레드 ]
+
+    private void run() {
+        List<DomainEvent> batch = new ArrayList<>(maxBatch);
+        while (true) {
+            // [메모] 종료 요청을 먼저 읽고 큐를 비워야, 요청 전에 발행된 이벤트를 빠뜨리지 않음
+            boolean stopping = closing;
+            while (dispatchBatch(batch) == maxBatch) {
+                // [메모] 큐가 빌 때까지 maxBatch씩 나눠 전달
+            }
+            if (stopping) {
+                return;
+            }
+            LockSupport.parkNanos(this, idleNanos);
+        }
+    }
+
+    /* 큐에서 최대 maxBatch건을 꺼내 비동기 구독자마다 한 번씩 전달 */
+    private int dispatchBatch(List<DomainEvent> batch) {
+        batch.clear();
+        for (DomainEvent event = queue.poll(); event != null; event = batch.size() < maxBatch ? queue.poll() : null) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        for (BatchSubscriber<?> subscriber : batchSubscribers) {
+            try {
+                subscriber.deliver(batch);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        return batch.size();
+    }
+}
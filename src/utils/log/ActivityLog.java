@@ -0,0 +1,431 @@
+package utils.log;
+
+import configs.message.Ingredient;
+import utils.concurrent.MpscQueue;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// [ ActivityLog 클래스 설명 ]
+// - ActivityLog는 활동 로그(LogEvent)를 파일에 이어 쓰고, 기간 / 종류로 다시 찾아볼 수 있게 하는 클래스임다.
+// - append()는 MpscQueue에 넣기만 하고 바로 돌아오며, 파일 쓰기는 기록 스레드 하나가 모아서 처리합니다.
+//   -> 화면(UI) 스레드는 파일 I/O를 기다리지 않슴다.
+// - 로그는 지금 쓰고 있는 activity.log(active)에 쌓이다가, segmentBytes를 넘으면 압축된 LogSegment로 봉인됩니다.
+
+// [ 파일 구성 ] dir 아래
+// - activity.log          : 지금 쓰고 있는 구간 (LogLines 형식의 줄들, 압축하지 않음)
+// - segment-번호.dat/.idx : 봉인된 구간 (LogSegment 참고)
+// - sealing-번호.log      : 봉인 중인 구간 (봉인이 끝나면 지워짐, 남아있다면 시작 시 봉인을 마저 함)
+
+// [ 색인 ]
+// - 로그를 BLOCK_EVENTS개씩 묶은 block마다 시각 범위와 종류 bit(typeMask)를 메모리에 들고 있습니다. (LogBlock 참고)
+// - query()는 segment들을 이진 탐색해 기간이 시작되는 segment부터 읽고, 기간 / 종류가 맞지 않는 block은 열지 않습니다.
+
+// [ 메모 ]
+// - 기록 스레드는 큐에 쌓인 로그를 쓴 뒤 flush를 한 번만 하고, 큐가 비면 flushIntervalMs 동안 쉽니다.
+// - 색인은 flush가 끝난 뒤에만 바뀌므로, 조회는 파일에 쓰인 로그만 봅니다. (큐에서 기다리는 로그는 다음 flush 뒤에 보임)
+// - 보관 기간(retentionDays)이 지났거나 segment 수가 maxSegments를 넘으면 오래된 segment부터 지웁니다.
+// - close()는 남은 로그를 모두 쓰고 기록 스레드를 끝냅니다. (LogRecorder가 종료 hook으로 호출)
+// - 큐가 가득 차면 그 로그는 파일에 남기지 않고 버립니다. (기록 때문에 화면이 멈추지 않도록)
+// - 비정상 종료로 마지막 줄이 잘렸다면, 시작할 때 그 줄을 잘라냅니다.
+// - segment는 시간 순으로 번호가 붙는다고 보고 탐색합니다. (시스템 시계가 크게 되돌아가면 일부 구간을 못 찾을 수 있음)
+
+public class ActivityLog {
+    private static final String ACTIVE = "activity.log";
+    private static final int BLOCK_EVENTS = 256;
+    private static final int MAX_BATCH = 1024;
+    private static final Pattern SEGMENT_INDEX = Pattern.compile("segment-(\\d+)\\.idx");
+    private static final Pattern SEGMENT_DATA = Pattern.compile("segment-(\\d+)\\.dat");
+    private static final Pattern SEALING = Pattern.compile("sealing-(\\d+)\\.log");
+
+    private final Path dir;
+    private final Path activeFile;
+    private final MpscQueue<LogEvent> queue;
+    private final long flushIntervalNanos;
+    private final long segmentBytes;
+    private final long retentionMillis;
+    private final int maxSegments;
+    private final Thread writer;
+    private volatile boolean closing = false;
+    private OutputStream out;  // [메모] 기록 스레드만 씀
+
+    // [ 색인 ] 기록 스레드가 write lock 안에서 바꾸고, 조회는 read lock 안에서 읽음
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<LogSegment> segments = new ArrayList<>();
+    private final List<LogBlock> activeBlocks = new ArrayList<>();
+    private long activeBytes = 0;
+    private long nextNumber = 1;
+    // [메모] active에서 아직 BLOCK_EVENTS개가 안 찬 마지막 block
+    private long openMin;
+    private long openMax;
+    private long openMask;
+    private long openOffset;
+    private long openEnd;
+    private int openCount;
+
+    private ActivityLog(Path dir, int capacity, long flushIntervalMs, long segmentBytes, long retentionDays, int maxSegments) {
+        this.dir = dir;
+        this.activeFile = dir.resolve(ACTIVE);
+        this.queue = new MpscQueue<>(capacity);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.segmentBytes = segmentBytes;
+        this.retentionMillis = TimeUnit.DAYS.toMillis(retentionDays);
+        this.maxSegments = maxSegments;
+        this.writer = new Thread(this::run, "activity-log-writer");
+        this.writer.setDaemon(true);
+        resetOpenBlock();
+    }
+
+    public static ActivityLog open(Path dir, int capacity, long flushIntervalMs, long segmentBytes, long retentionDays, int maxSegments) {
+        ActivityLog log = new ActivityLog(dir, capacity, flushIntervalMs, segmentBytes, retentionDays, maxSegments);
+        try {
+            log.recover();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        log.writer.start();
+        return log;
+    }
+
+    /* 기록 요청 (큐가 가득 찼다면 false) */
+    public boolean append(LogEvent event) {
+        return queue.offer(event);
+    }
+
+    /* 기간(from ~ to, epoch ms) 안의 로그 중 types 종류만 오래된 것부터 (types가 비어있다면 모든 종류) */
+    public List<LogEvent> query(long from, long to, Collection<Ingredient> types) {
+        long mask = LogBlock.maskOf(types);
+        List<LogEvent> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // [1] 봉인된 segment : 기간이 시작되는 segment부터 기간이 끝나는 segment까지
+            for (int i = firstSegmentFrom(from); i < segments.size() && segments.get(i).minTs <= to; i++) {
+                LogSegment segment = segments.get(i);
+                for (LogBlock block : segment.blocks) {
+                    if (block.overlaps(from, to, mask)) {
+                        collect(segment.read(block), from, to, mask, result);
+                    }
+                }
+            }
+            // [2] 지금 쓰고 있는 구간
+            for (LogBlock block : activeIndex()) {
+                if (block.overlaps(from, to, mask)) {
+                    collect(readActive(block), from, to, mask, result);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /* 파일에 남은 기록 중 최근 limit건 (오래된 것부터) */
+    public List<LogEvent> loadRecent(int limit) {
+        Deque<LogEvent> newest = new ArrayDeque<>(limit);
+        lock.readLock().lock();
+        try {
+            // [메모] 최근 block부터 거꾸로 읽다가 limit건이 차면 멈춤
+            List<LogBlock> active = activeIndex();
+            for (int i = active.size() - 1; i >= 0 && newest.size() < limit; i--) {
+                prepend(readActive(active.get(i)), newest, limit);
+            }
+            for (int s = segments.size() - 1; s >= 0 && newest.size() < limit; s--) {
+                LogSegment segment = segments.get(s);
+                for (int i = segment.blocks.size() - 1; i >= 0 && newest.size() < limit; i--) {
+                    prepend(segment.read(segment.blocks.get(i)), newest, limit);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return List.copyOf(newest);
+    }
+
+    /* 남은 로그를 모두 쓰고 기록 스레드 종료 (timeoutMs까지만 기다림) */
+    public void close(long timeoutMs) {
+        closing = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // [ 기록 스레드 ]
+
+    private void run() {
+        try {
+            out = openActive();
+            while (true) {
+                // [메모] 종료 요청을 먼저 읽고 큐를 비워야, 요청 전에 들어온 로그를 빠뜨리지 않음
+                boolean stopping = closing;
+                while (writeBatch() == MAX_BATCH) {
+                    // [메모] 한 번에 너무 오래 write lock을 잡지 않도록 MAX_BATCH씩 나눠 씀
+                }
+                if (stopping) {
+                    return;
+                }
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            try {
+                if (out != null) {
+                    out.close();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /* 큐에서 최대 MAX_BATCH건을 active에 쓰고 색인에 반영, 넘치면 봉인 */
+    private int writeBatch() throws IOException {
+        LogEvent event = queue.poll();
+        if (event == null) {
+            return 0;
+        }
+        int written = 0;
+        lock.writeLock().lock();
+        try {
+            for (; event != null; event = written < MAX_BATCH ? queue.poll() : null) {
+                byte[] line = LogLines.encode(event);
+                out.write(line);
+                index(event, activeBytes, line.length);
+                activeBytes += line.length;
+                written++;
+            }
+            out.flush();
+            if (activeBytes >= segmentBytes) {
+                seal();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return written;
+    }
+
+    /* active를 압축된 segment로 봉인하고 새 active 시작 (write lock 안에서 호출) */
+    private void seal() throws IOException {
+        // [1] active를 봉인 중 이름으로 옮김 (도중에 죽으면 시작 시 이 파일로 봉인을 마저 함)
+        out.close();
+        long number = nextNumber++;
+        Path sealing = dir.resolve(String.format("sealing-%06d.log", number));
+        Files.move(activeFile, sealing, StandardCopyOption.ATOMIC_MOVE);
+        // [2] segment 기록 후 봉인 중 파일 삭제
+        sealFrom(sealing, number);
+        // [3] 새 active 시작, 보관 기간 정리
+        activeBlocks.clear();
+        resetOpenBlock();
+        activeBytes = 0;
+        out = openActive();
+        enforceRetention(System.currentTimeMillis());
+    }
+
+    private void sealFrom(Path sealing, long number) throws IOException {
+        byte[] bytes = Files.readAllBytes(sealing);
+        List<LogEvent> events = LogLines.decodeAll(bytes, bytes.length);
+        if (!events.isEmpty()) {
+            segments.add(LogSegment.write(dir, number, events, BLOCK_EVENTS));
+            segments.sort(Comparator.comparingLong(segment -> segment.number));
+        }
+        Files.delete(sealing);
+    }
+
+    private OutputStream openActive() throws IOException {
+        return new BufferedOutputStream(Files.newOutputStream(activeFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    // [ 시작 시 복구 ]
+
+    private void recover() throws IOException {
+        Files.createDirectories(dir);
+        List<Long> indexed = new ArrayList<>();
+        List<Long> data = new ArrayList<>();
+        List<Long> sealing = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.delete(file);
+                    continue;
+                }
+                collectNumber(SEGMENT_INDEX, name, indexed);
+                collectNumber(SEGMENT_DATA, name, data);
+                collectNumber(SEALING, name, sealing);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            // [1] 완성된 segment 색인 읽기 (.idx 없는 .dat는 봉인 도중 죽은 것이라 지움)
+            for (long number : indexed) {
+                segments.add(LogSegment.load(dir, number));
+                nextNumber = Math.max(nextNumber, number + 1);
+            }
+            for (long number : data) {
+                if (!indexed.contains(number)) {
+                    Files.delete(LogSegment.dataPath(dir, number));
+                }
+            }
+            // [2] 봉인 도중 죽었다면 마저 봉인 (이미 segment가 있다면 봉인 중 파일만 지움)
+            for (long number : sealing) {
+                Path file = dir.resolve(String.format("sealing-%06d.log", number));
+                if (indexed.contains(number)) {
+                    Files.delete(file);
+                } else {
+                    sealFrom(file, number);
+                }
+                nextNumber = Math.max(nextNumber, number + 1);
+            }
+            segments.sort(Comparator.comparingLong(segment -> segment.number));
+            // [3] active 색인 다시 만들기
+            if (Files.exists(activeFile)) {
+                scanActive();
+            }
+            enforceRetention(System.currentTimeMillis());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* active를 처음부터 읽어 block 색인을 만들고, 잘린 마지막 줄은 잘라냄 */
+    private void scanActive() throws IOException {
+        byte[] bytes = Files.readAllBytes(activeFile);
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                LogEvent event = LogLines.decode(new String(bytes, start, i - start, StandardCharsets.UTF_8));
+                if (event != null) {
+                    index(event, start, i + 1 - start);
+                }
+                start = i + 1;
+            }
+        }
+        activeBytes = start;
+        if (start < bytes.length) {
+            try (FileChannel channel = FileChannel.open(activeFile, StandardOpenOption.WRITE)) {
+                channel.truncate(start);
+            }
+        }
+    }
+
+    private static void collectNumber(Pattern pattern, String name, List<Long> numbers) {
+        Matcher matcher = pattern.matcher(name);
+        if (matcher.matches()) {
+            numbers.add(Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    // [ 색인 ]
+
+    /* active의 offset 위치에 쓴 로그 하나를 block 색인에 반영 (write lock 안에서 호출) */
+    private void index(LogEvent event, long offset, int length) {
+        if (openCount == 0) {
+            openOffset = offset;
+        }
+        openMin = Math.min(openMin, event.timestamp());
+        openMax = Math.max(openMax, event.timestamp());
+        openMask |= LogBlock.maskOf(event.type());
+        openEnd = offset + length;
+        openCount++;
+        if (openCount == BLOCK_EVENTS) {
+            activeBlocks.add(openBlock());
+            resetOpenBlock();
+        }
+    }
+
+    private LogBlock openBlock() {
+        int length = (int) (openEnd - openOffset);
+        return new LogBlock(openMin, openMax, openMask, openOffset, length, length, openCount);
+    }
+
+    private void resetOpenBlock() {
+        openMin = Long.MAX_VALUE;
+        openMax = Long.MIN_VALUE;
+        openMask = 0;
+        openOffset = 0;
+        openEnd = 0;
+        openCount = 0;
+    }
+
+    /* active의 block 색인 (다 차지 않은 마지막 block 포함) */
+    private List<LogBlock> activeIndex() {
+        if (openCount == 0) {
+            return activeBlocks;
+        }
+        List<LogBlock> blocks = new ArrayList<>(activeBlocks);
+        blocks.add(openBlock());
+        return blocks;
+    }
+
+    /* maxTs가 from 이상인 첫 segment 위치 (이진 탐색) */
+    private int firstSegmentFrom(long from) {
+        int low = 0;
+        int high = segments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).maxTs < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void enforceRetention(long now) throws IOException {
+        while (!segments.isEmpty() && (segments.size() > maxSegments || segments.get(0).maxTs < now - retentionMillis)) {
+            segments.remove(0).delete();
+        }
+    }
+
+    private List<LogEvent> readActive(LogBlock block) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(block.length());
+        try (FileChannel channel = FileChannel.open(activeFile, StandardOpenOption.READ)) {
+            while (bytes.hasRemaining() && channel.read(bytes, block.offset() + bytes.position()) >= 0) {
+                // [메모] 다 읽을 때까지 반복
+            }
+        }
+        return LogLines.decodeAll(bytes.array(), bytes.position());
+    }
+
+    private static void collect(List<LogEvent> events, long from, long to, long mask, List<LogEvent> result) {
+        for (LogEvent event : events) {
+            if (event.timestamp() >= from && event.timestamp() <= to && (LogBlock.maskOf(event.type()) & mask) != 0) {
+                result.add(event);
+            }
+        }
+    }
+
+    private static void prepend(List<LogEvent> events, Deque<LogEvent> newest, int limit) {
+        for (int i = events.size() - 1; i >= 0 && newest.size() < limit; i--) {
+            newest.addFirst(events.get(i));
+        }
+    }
+}
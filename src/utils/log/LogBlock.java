@@ -0,0 +1,35 @@
+package utils.log;
+
+import configs.message.Ingredient;
+
+import java.util.Collection;
+
+// [ LogBlock 레코드 설명 ]
+// - 로그 파일 안의 연속된 로그 묶음(block) 하나의 색인 정보임다.
+// - 시각 범위(minTs ~ maxTs)와 담긴 로그 종류(typeMask)만 보고, 조회 조건에 맞지 않는 block은 읽지 않고 건너뜁니다.
+
+// [ 메모 ]
+// - typeMask는 담긴 로그들의 Ingredient ordinal 자리 bit를 모은 값임다. (Ingredient가 64개를 넘으면 63번 bit를 함께 씀)
+// - offset / length는 파일 안의 위치, rawLength는 압축을 푼 크기입니다. (압축하지 않은 block은 length와 같음)
+
+record LogBlock(long minTs, long maxTs, long typeMask, long offset, int length, int rawLength, int count) {
+    static long maskOf(Ingredient type) {
+        return 1L << Math.min(type.ordinal(), 63);
+    }
+
+    /* types가 비어있다면 모든 종류 */
+    static long maskOf(Collection<Ingredient> types) {
+        if (types == null || types.isEmpty()) {
+            return -1L;
+        }
+        long mask = 0;
+        for (Ingredient type : types) {
+            mask |= maskOf(type);
+        }
+        return mask;
+    }
+
+    boolean overlaps(long from, long to, long types) {
+        return maxTs >= from && minTs <= to && (typeMask & types) != 0;
+    }
+}
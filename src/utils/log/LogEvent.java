@@ -0,0 +1,19 @@
+package utils.log;
+
+import configs.message.Ingredient;
+import managers.ConverterManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// [ LogEvent 레코드 설명 ]
+// - 활동 로그 하나를 문자열로 만들기 전의 재료 그대로 담는 레코드임다. (기록 시각, 로그 종류, 대상 이름)
+// - 화면에 보일 문자열은 format()으로, 보여줄 때에만 만듭니다.
+
+public record LogEvent(long timestamp, Ingredient type, String message) {
+    public String format() {
+        LocalDateTime at = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+        return String.format(type.getFormat(), ConverterManager.stringDateTime.convertFrom(at), message);
+    }
+}
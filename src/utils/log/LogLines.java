@@ -0,0 +1,70 @@
+package utils.log;
+
+import configs.message.Ingredient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// [ LogLines 클래스 설명 ]
+// - LogLines는 활동 로그 파일의 한 줄 형식을 담당하는 도우미 클래스임다.
+// - 한 줄에 로그 하나 : [기록 시각(epoch ms)] \t [Ingredient 이름] \t [대상 이름] \n
+// - 대상 이름 안의 \ , 탭, 줄바꿈은 \\ , \t , \n 으로 바꿔서 씁니다.
+
+// [ 메모 ]
+// - 형식이 어긋난 줄(비정상 종료로 잘린 줄 등)은 decode()가 null을 돌려주고, 읽는 쪽에서 건너뜁니다.
+
+final class LogLines {
+    private LogLines() {}
+
+    static byte[] encode(LogEvent event) {
+        String message = event.message() == null ? "" : event.message()
+                .replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+        return (event.timestamp() + "\t" + event.type().name() + "\t" + message + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    static LogEvent decode(String line) {
+        String[] fields = line.split("\t", 3);
+        if (fields.length < 3) {
+            return null;
+        }
+        try {
+            return new LogEvent(Long.parseLong(fields[0]), Ingredient.valueOf(fields[1]), unescape(fields[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /* 줄바꿈으로 끝나는 줄들을 차례로 (마지막의 끝나지 않은 줄은 버림) */
+    static List<LogEvent> decodeAll(byte[] bytes, int length) {
+        List<LogEvent> events = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == '\n') {
+                LogEvent event = decode(new String(bytes, start, i - start, StandardCharsets.UTF_8));
+                if (event != null) {
+                    events.add(event);
+                }
+                start = i + 1;
+            }
+        }
+        return events;
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
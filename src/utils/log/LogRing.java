@@ -0,0 +1,67 @@
+package utils.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// [ LogRing 클래스 설명 ]
+// - LogRing은 최근 활동 로그(LogEvent)를 정해진 개수만 보관하는 원형 버퍼임다. (가득 차면 가장 오래된 칸부터 덮어씀)
+// - 넣기는 번호표(next) 한 번 뽑고 칸에 쓰는 것으로 끝나며, lock을 잡지 않슴다.
+
+// [ 메모 ]
+// - 칸마다 그 칸에 마지막으로 쓴 번호(sequence)를 같이 둡니다.
+//   -> 쓰는 쪽 : 번호를 -1로 지움 -> 로그를 씀 -> 번호를 기록 (쓰는 중인 칸은 번호가 -1)
+//   -> 읽는 쪽 : 로그를 읽기 전과 후의 번호가 모두 기대한 번호일 때만 그 로그를 믿음
+// - newest()가 쓰는 중인 칸을 만나면 그 칸은 건너뛰고, complete 여부로 알려줍니다. (화면 캐시를 쓰지 않도록)
+
+public class LogRing {
+    private final int mask;
+    private final AtomicReferenceArray<LogEvent> events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong next = new AtomicLong();
+
+    // [메모] newest()의 결과 (어느 번호까지 본 결과인지, 빠진 칸이 없었는지)
+    public record Snapshot(long version, boolean complete, LogEvent[] events, int size) {}
+
+    public LogRing(int requested) {
+        int capacity = Integer.highestOneBit(Math.max(2, requested - 1)) << 1;
+        this.mask = capacity - 1;
+        this.events = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, -1);
+        }
+    }
+
+    public void add(LogEvent event) {
+        long sequence = next.getAndIncrement();
+        int index = (int) (sequence & mask);
+        sequences.set(index, -1);
+        events.set(index, event);
+        sequences.set(index, sequence);
+    }
+
+    /* 지금까지 넣은 로그 수 (화면 캐시의 버전으로 씀) */
+    public long version() {
+        return next.get();
+    }
+
+    /* 최근 것부터 최대 limit건 */
+    public Snapshot newest(int limit) {
+        long end = next.get();
+        LogEvent[] newest = new LogEvent[limit];
+        int size = 0;
+        boolean complete = true;
+        for (long sequence = end - 1; sequence >= 0 && sequence >= end - 1 - mask && size < limit; sequence--) {
+            int index = (int) (sequence & mask);
+            long before = sequences.get(index);
+            LogEvent event = events.get(index);
+            if (before == sequence && sequences.get(index) == sequence) {
+                newest[size++] = event;
+            } else {
+                complete = false;
+            }
+        }
+        return new Snapshot(end, complete, newest, size);
+    }
+}
@@ -0,0 +1,191 @@
+package utils.log;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// [ LogSegment 클래스 설명 ]
+// - LogSegment는 다 채워져 봉인된(sealed) 활동 로그 구간 하나임다. 봉인된 뒤에는 바뀌지 않습니다.
+// - 로그를 BLOCK 단위로 나눠 block마다 따로 압축하므로, 필요한 block만 골라 읽고 풀 수 있슴다.
+
+// [ 파일 구성 ] segment-번호.dat / segment-번호.idx
+// - .dat : 압축된 block들을 이어붙인 것 (block 하나 = LogLines 형식의 줄들을 Deflater로 압축)
+// - .idx : [int MAGIC][int block 수] + block마다 [long minTs][long maxTs][long typeMask][long offset][int length][int rawLength][int count]
+
+// [ 메모 ]
+// - .dat를 먼저 쓰고 .idx를 마지막에 atomic rename 하므로, .idx가 있으면 완성된 segment입니다. (.idx 없는 .dat는 지워도 됨)
+
+final class LogSegment {
+    private static final int MAGIC = 0x4C4F4753;  // "LOGS"
+
+    final long number;
+    final long minTs;
+    final long maxTs;
+    final List<LogBlock> blocks;
+    private final Path data;
+    private final Path index;
+
+    private LogSegment(long number, Path data, Path index, List<LogBlock> blocks) {
+        this.number = number;
+        this.data = data;
+        this.index = index;
+        this.blocks = blocks;
+        this.minTs = blocks.stream().mapToLong(LogBlock::minTs).min().orElse(Long.MAX_VALUE);
+        this.maxTs = blocks.stream().mapToLong(LogBlock::maxTs).max().orElse(Long.MIN_VALUE);
+    }
+
+    static Path dataPath(Path dir, long number) {
+        return dir.resolve(String.format("segment-%06d.dat", number));
+    }
+
+    static Path indexPath(Path dir, long number) {
+        return dir.resolve(String.format("segment-%06d.idx", number));
+    }
+
+    /* events를 blockEvents개씩 압축해서 새 segment로 기록 */
+    static LogSegment write(Path dir, long number, List<LogEvent> events, int blockEvents) throws IOException {
+        Path data = dataPath(dir, number);
+        Path index = indexPath(dir, number);
+        Path dataTmp = dir.resolve(data.getFileName() + ".tmp");
+        Path indexTmp = dir.resolve(index.getFileName() + ".tmp");
+        List<LogBlock> blocks = new ArrayList<>();
+
+        // [1] block마다 압축해서 이어붙임
+        Deflater deflater = new Deflater();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dataTmp))) {
+            long offset = 0;
+            for (int from = 0; from < events.size(); from += blockEvents) {
+                List<LogEvent> chunk = events.subList(from, Math.min(events.size(), from + blockEvents));
+                byte[] raw = encode(chunk);
+                byte[] packed = deflate(deflater, raw);
+                out.write(packed);
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                long mask = 0;
+                for (LogEvent event : chunk) {
+                    min = Math.min(min, event.timestamp());
+                    max = Math.max(max, event.timestamp());
+                    mask |= LogBlock.maskOf(event.type());
+                }
+                blocks.add(new LogBlock(min, max, mask, offset, packed.length, raw.length, chunk.size()));
+                offset += packed.length;
+            }
+        } finally {
+            deflater.end();
+        }
+
+        // [2] 색인 기록 후 .dat -> .idx 순서로 제자리에 옮김
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexTmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(blocks.size());
+            for (LogBlock block : blocks) {
+                out.writeLong(block.minTs());
+                out.writeLong(block.maxTs());
+                out.writeLong(block.typeMask());
+                out.writeLong(block.offset());
+                out.writeInt(block.length());
+                out.writeInt(block.rawLength());
+                out.writeInt(block.count());
+            }
+        }
+        Files.move(dataTmp, data, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(indexTmp, index, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new LogSegment(number, data, index, blocks);
+    }
+
+    static LogSegment load(Path dir, long number) throws IOException {
+        Path index = indexPath(dir, number);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(index))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("활동 로그 색인 형식이 다릅니다 : " + index);
+            }
+            int size = in.readInt();
+            List<LogBlock> blocks = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                blocks.add(new LogBlock(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readInt(), in.readInt(), in.readInt()));
+            }
+            return new LogSegment(number, dataPath(dir, number), index, blocks);
+        }
+    }
+
+    /* block 하나를 읽어 압축을 풀고 로그들로 */
+    List<LogEvent> read(LogBlock block) throws IOException {
+        ByteBuffer packed = ByteBuffer.allocate(block.length());
+        try (FileChannel channel = FileChannel.open(data, StandardOpenOption.READ)) {
+            while (packed.hasRemaining()) {
+                if (channel.read(packed, block.offset() + packed.position()) < 0) {
+                    throw new IOException("활동 로그 block이 잘렸습니다 : " + data);
+                }
+            }
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(packed.array());
+            byte[] raw = new byte[block.rawLength()];
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, raw.length - length);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                length += inflated;
+            }
+            return LogLines.decodeAll(raw, length);
+        } catch (DataFormatException e) {
+            throw new IOException("활동 로그 block을 풀지 못했습니다 : " + data, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(index);
+        Files.deleteIfExists(data);
+    }
+
+    private static byte[] encode(List<LogEvent> events) {
+        int size = 0;
+        List<byte[]> lines = new ArrayList<>(events.size());
+        for (LogEvent event : events) {
+            byte[] line = LogLines.encode(event);
+            lines.add(line);
+            size += line.length;
+        }
+        byte[] raw = new byte[size];
+        int position = 0;
+        for (byte[] line : lines) {
+            System.arraycopy(line, 0, raw, position, line.length);
+            position += line.length;
+        }
+        return raw;
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        byte[] buffer = new byte[Math.max(64, raw.length / 2)];
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+}